@@ -0,0 +1,52 @@
+package org.burningwave.core.benchmark;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheBenchmark {
+	private static final int PATHS_COUNT = 4096;
+	String[] paths;
+	int index;
+
+	@Setup
+	public void setup() {
+		paths = new String[PATHS_COUNT];
+		for (int i = 0; i < PATHS_COUNT; i++) {
+			paths[i] = "/benchmark/libs/lib" + (i % 8) + ".jar/org/burningwave/package" + (i % 64) + "/Class" + i + ".class";
+			Cache.pathForContents.upload(paths[i], () -> ByteBuffer.allocate(64));
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		for (String path : paths) {
+			Cache.pathForContents.remove(path);
+		}
+	}
+
+	@Benchmark
+	public ByteBuffer pathForContentsHit() {
+		return Cache.pathForContents.get(paths[index++ & (PATHS_COUNT - 1)]);
+	}
+
+}
@@ -0,0 +1,61 @@
+package org.burningwave.core.benchmark;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.burningwave.core.assembler.ComponentContainer;
+import org.burningwave.core.classes.ClassCriteria;
+import org.burningwave.core.classes.ClassHunter;
+import org.burningwave.core.classes.SearchConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassHunterBenchmark {
+	ClassHunter classHunter;
+	String path;
+	ClassCriteria classCriteria;
+
+	@Setup
+	public void setup() {
+		classHunter = ComponentContainer.getInstance().getClassHunter();
+		path = new File("src/test/external-resources").getAbsolutePath();
+		classCriteria = ClassCriteria.create().className(className -> className.startsWith("org.springframework.core."));
+		//Fills the cache used by findByCached
+		findByCached();
+	}
+
+	//The whole class path is scanned at every invocation
+	@Benchmark
+	public Collection<Class<?>> findByCold() {
+		try (ClassHunter.SearchResult result = classHunter.findBy(
+			SearchConfig.withoutUsingCache().addPaths(path).by(classCriteria.createCopy())
+		)) {
+			return result.getClasses();
+		}
+	}
+
+	@Benchmark
+	public Collection<Class<?>> findByCached() {
+		try (ClassHunter.SearchResult result = classHunter.findBy(
+			SearchConfig.forPaths(path).by(classCriteria.createCopy())
+		)) {
+			return result.getClasses();
+		}
+	}
+
+}
@@ -0,0 +1,82 @@
+package org.burningwave.core.benchmark;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.burningwave.core.assembler.ComponentContainer;
+import org.burningwave.core.classes.ClassCriteria;
+import org.burningwave.core.classes.ClassPathHunter;
+import org.burningwave.core.classes.SearchConfig;
+import org.burningwave.core.io.FileSystemItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassPathHunterBenchmark {
+	@Param({"1", "4", "16"})
+	int classPathsCount;
+	ClassPathHunter classPathHunter;
+	String path;
+	String pathWithManyClassPaths;
+
+	@Setup
+	public void setup() throws Exception {
+		classPathHunter = ComponentContainer.getInstance().getClassPathHunter();
+		path = new File("src/test/external-resources").getAbsolutePath();
+		//Every class path contains a copy of the same classes, so the time should grow linearly with their number
+		Path packageFolder = new File("target/classes/org/burningwave/core/classes").toPath();
+		File classPathsFolder = new File("target/benchmark-resources/class-paths-" + classPathsCount);
+		for (int i = 0; i < classPathsCount; i++) {
+			Path targetPackageFolder = new File(classPathsFolder, "class-path-" + i + "/org/burningwave/core/classes").toPath();
+			try (Stream<Path> classFiles = Files.list(packageFolder)) {
+				Files.createDirectories(targetPackageFolder);
+				for (Path classFile : (Iterable<Path>)classFiles::iterator) {
+					Files.copy(classFile, targetPackageFolder.resolve(classFile.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+		}
+		pathWithManyClassPaths = classPathsFolder.getAbsolutePath();
+	}
+
+	//Every class of the folder matches, so the time is dominated by the accumulation of the classes found
+	@Benchmark
+	public Collection<FileSystemItem> findAllClassPaths() {
+		try (ClassPathHunter.SearchResult result = classPathHunter.findBy(
+			SearchConfig.forPaths(path).by(
+				ClassCriteria.create().className(className -> true)
+			)
+		)) {
+			return result.getClassPaths();
+		}
+	}
+
+	//The classes are retrieved from the cache and copied into the search result
+	@Benchmark
+	public Collection<FileSystemItem> findAllInManyClassPaths() {
+		try (ClassPathHunter.SearchResult result = classPathHunter.findBy(
+			SearchConfig.forPaths(pathWithManyClassPaths)
+		)) {
+			return result.getClassPaths();
+		}
+	}
+
+}
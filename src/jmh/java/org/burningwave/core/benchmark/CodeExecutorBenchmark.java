@@ -0,0 +1,48 @@
+package org.burningwave.core.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.burningwave.core.assembler.ComponentContainer;
+import org.burningwave.core.classes.CodeExecutor;
+import org.burningwave.core.classes.ExecuteConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodeExecutorBenchmark {
+	CodeExecutor codeExecutor;
+
+	@Setup
+	public void setup() {
+		codeExecutor = ComponentContainer.getInstance().getCodeExecutor();
+	}
+
+	//After the first invocation the executor is retrieved from the executors cache
+	@Benchmark
+	public Object execute() {
+		return codeExecutor.execute(
+			ExecuteConfig.forBodySourceGenerator()
+			.useType(ArrayList.class, List.class)
+			.addCodeRow("List<Integer> numbers = new ArrayList<>();")
+			.addCodeRow("numbers.add((Integer)parameter[0]);")
+			.addCodeRow("return (T)numbers.get(0);")
+			.withParameter(Integer.valueOf(5))
+		);
+	}
+
+}
@@ -0,0 +1,56 @@
+package org.burningwave.core.benchmark;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+
+import org.burningwave.core.classes.ClassCriteria;
+import org.burningwave.core.classes.Constructors.Instantiator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstructorsBenchmark {
+	Constructor<?> constructor;
+	Instantiator<ClassCriteria> instantiator;
+
+	@Setup
+	public void setup() {
+		constructor = Constructors.findFirstAndMakeItAccessible(ClassCriteria.class);
+		instantiator = Constructors.findInstantiator(ClassCriteria.class);
+	}
+
+	@Benchmark
+	public Object constructorNewInstance() throws Throwable {
+		return constructor.newInstance();
+	}
+
+	@Benchmark
+	public Object newInstanceDirectOf() {
+		return Constructors.newInstanceDirectOf(ClassCriteria.class);
+	}
+
+	@Benchmark
+	public Object instantiator() {
+		return instantiator.newInstance();
+	}
+
+	@Benchmark
+	public Object criteriaCreateCopy() {
+		return ClassCriteria.create().allThat(cls -> true).createCopy();
+	}
+}
@@ -0,0 +1,58 @@
+package org.burningwave.core.benchmark;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldsBenchmark {
+	Target target;
+	Field field;
+
+	@Setup
+	public void setup() {
+		target = new Target();
+		field = Fields.findFirstAndMakeItAccessible(Target.class, "value");
+	}
+
+	@Benchmark
+	public Object fieldGet() throws Throwable {
+		return field.get(target);
+	}
+
+	@Benchmark
+	public Object get() {
+		return Fields.get(target, "value");
+	}
+
+	@Benchmark
+	public Object getDirect() {
+		return Fields.getDirect(target, "value");
+	}
+
+	@Benchmark
+	public Object getDirectByField() {
+		return Fields.getDirect(target, field);
+	}
+
+	public static class Target {
+		private Integer value = 1;
+	}
+}
@@ -0,0 +1,65 @@
+package org.burningwave.core.benchmark;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.burningwave.core.io.FileSystemItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileSystemItemBenchmark {
+	FileSystemItem nestedJar;
+	FileSystemItem nestedJarEntry;
+
+	@Setup
+	public void setup() throws Exception {
+		File jar = new File("src/test/external-resources/spring-core-4.3.4.RELEASE.jar");
+		File archive = new File("target/benchmark-resources/archive.zip");
+		archive.getParentFile().mkdirs();
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(new FileOutputStream(archive))) {
+			zipOutputStream.putNextEntry(new ZipEntry("lib/" + jar.getName()));
+			zipOutputStream.write(Files.readAllBytes(jar.toPath()));
+			zipOutputStream.closeEntry();
+		}
+		String nestedJarPath = archive.getAbsolutePath() + "/lib/" + jar.getName();
+		nestedJar = FileSystemItem.ofPath(nestedJarPath);
+		nestedJarEntry = FileSystemItem.ofPath(nestedJarPath + "/org/springframework/core/SpringVersion.class");
+	}
+
+	//The reset removes the cached contents, so the nested jar is read again at every invocation
+	@Benchmark
+	public Set<FileSystemItem> getAllChildrenOfNestedJar() {
+		return nestedJar.reset().getAllChildren();
+	}
+
+	@Benchmark
+	public ByteBuffer toByteBufferOfNestedJarEntry() {
+		return nestedJarEntry.reset().toByteBuffer();
+	}
+
+	@Benchmark
+	public ByteBuffer toByteBufferOfCachedNestedJarEntry() {
+		return nestedJarEntry.toByteBuffer();
+	}
+
+}
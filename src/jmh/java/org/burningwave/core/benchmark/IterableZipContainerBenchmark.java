@@ -0,0 +1,62 @@
+package org.burningwave.core.benchmark;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.burningwave.core.io.IterableZipContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IterableZipContainerBenchmark {
+	String path;
+	ByteBuffer content;
+
+	@Setup
+	public void setup() throws Exception {
+		File jar = new File("src/test/external-resources/spring-core-4.3.4.RELEASE.jar");
+		path = jar.getAbsolutePath();
+		content = ByteBuffer.wrap(Files.readAllBytes(jar.toPath()));
+	}
+
+	@Benchmark
+	public int iterateEntries() {
+		int count = 0;
+		try (IterableZipContainer zip = IterableZipContainer.create(path, content.duplicate())) {
+			while (zip.getNextEntry(zipEntry -> false) != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int iterateEntriesAndLoadContents() {
+		int count = 0;
+		try (IterableZipContainer zip = IterableZipContainer.create(path, content.duplicate())) {
+			IterableZipContainer.Entry zipEntry;
+			while ((zipEntry = zip.getNextEntry(entry -> !entry.isDirectory())) != null) {
+				if (!zipEntry.isDirectory()) {
+					count += zipEntry.toByteBuffer().remaining();
+				}
+			}
+		}
+		return count;
+	}
+
+}
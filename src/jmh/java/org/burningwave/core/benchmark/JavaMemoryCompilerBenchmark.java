@@ -0,0 +1,54 @@
+package org.burningwave.core.benchmark;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.burningwave.core.assembler.ComponentContainer;
+import org.burningwave.core.classes.JavaMemoryCompiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JavaMemoryCompilerBenchmark {
+	JavaMemoryCompiler javaMemoryCompiler;
+	Collection<String> sources;
+
+	@Setup
+	public void setup() {
+		javaMemoryCompiler = ComponentContainer.getInstance().getJavaMemoryCompiler();
+		sources = Arrays.asList(
+			"package org.burningwave.core.benchmark.generated;\n" +
+			"import java.util.ArrayList;\n" +
+			"import java.util.List;\n" +
+			"public class Compiled {\n" +
+			"	public List<Integer> numbers(int count) {\n" +
+			"		List<Integer> numbers = new ArrayList<>();\n" +
+			"		for (int i = 0; i < count; i++) {\n" +
+			"			numbers.add(i);\n" +
+			"		}\n" +
+			"		return numbers;\n" +
+			"	}\n" +
+			"}"
+		);
+	}
+
+	@Benchmark
+	public Object compile() {
+		return javaMemoryCompiler.compile(sources, false).getCompiledFiles();
+	}
+
+}
@@ -0,0 +1,64 @@
+package org.burningwave.core.benchmark;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.burningwave.core.classes.Methods.Invoker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodsBenchmark {
+	Target target;
+	Integer firstOperand;
+	Integer secondOperand;
+	Method method;
+	Invoker invoker;
+
+	@Setup
+	public void setup() {
+		target = new Target();
+		firstOperand = 1;
+		secondOperand = 2;
+		method = Methods.findFirstAndMakeItAccessible(Target.class, "sum", Integer.class, Integer.class);
+		invoker = Methods.findInvoker(Target.class, "sum", Integer.class, Integer.class);
+	}
+
+	@Benchmark
+	public Object methodInvoke() throws Throwable {
+		return method.invoke(target, firstOperand, secondOperand);
+	}
+
+	@Benchmark
+	public Object invokeDirect() {
+		return Methods.invokeDirect(target, "sum", firstOperand, secondOperand);
+	}
+
+	@Benchmark
+	public Object invoker() {
+		return invoker.invoke(target, firstOperand, secondOperand);
+	}
+
+	public static class Target {
+
+		public Integer sum(Integer firstOperand, Integer secondOperand) {
+			return firstOperand + secondOperand;
+		}
+
+	}
+}
@@ -0,0 +1,66 @@
+package org.burningwave.core.benchmark;
+
+import java.lang.reflect.Modifier;
+import java.util.concurrent.TimeUnit;
+
+import org.burningwave.core.classes.ClassSourceGenerator;
+import org.burningwave.core.classes.FunctionSourceGenerator;
+import org.burningwave.core.classes.TypeDeclarationSourceGenerator;
+import org.burningwave.core.classes.UnitSourceGenerator;
+import org.burningwave.core.classes.VariableSourceGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SourceGeneratorBenchmark {
+	@Param({"4", "16"})
+	int depth;
+	UnitSourceGenerator unit;
+
+	@Setup
+	public void setup() {
+		ClassSourceGenerator cls = createClass("Generated" + depth);
+		for (int i = depth - 1; i >= 0; i--) {
+			cls = createClass("Generated" + i).addInnerClass(cls);
+		}
+		unit = UnitSourceGenerator.create("org.burningwave.core.benchmark.generated").addClass(cls);
+	}
+
+	ClassSourceGenerator createClass(String name) {
+		ClassSourceGenerator cls = ClassSourceGenerator.create(
+			TypeDeclarationSourceGenerator.create(name)
+		).addModifier(Modifier.PUBLIC | Modifier.STATIC);
+		for (int i = 0; i < 8; i++) {
+			cls.addField(
+				VariableSourceGenerator.create(TypeDeclarationSourceGenerator.create(Integer.class), "field" + i)
+				.addModifier(Modifier.PRIVATE).setValue("Integer.valueOf(" + i + ")")
+			).addMethod(
+				FunctionSourceGenerator.create("getField" + i).addModifier(Modifier.PUBLIC)
+				.setReturnType(TypeDeclarationSourceGenerator.create(Integer.class))
+				.addBodyCodeRow("Integer value = this.field" + i + ";")
+				.addBodyCodeRow("return value;")
+			);
+		}
+		return cls;
+	}
+
+	@Benchmark
+	public String make() {
+		return unit.make();
+	}
+
+}
@@ -0,0 +1,77 @@
+package org.burningwave.core.benchmark;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.burningwave.core.io.ByteBufferOutputStream;
+import org.burningwave.core.io.FileInputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamsBenchmark {
+	@Param({"65536", "8388608"})
+	int size;
+	byte[] chunk;
+	File file;
+
+	@Setup
+	public void setup() throws IOException {
+		chunk = new byte[8192];
+		file = File.createTempFile("streams-benchmark", ".bin");
+		byte[] content = new byte[size];
+		new Random(size).nextBytes(content);
+		Files.write(file.toPath(), content);
+	}
+
+	@TearDown
+	public void tearDown() {
+		file.delete();
+	}
+
+	@Benchmark
+	public ByteBuffer byteBufferOutputStreamGrowth() {
+		try (ByteBufferOutputStream output = new ByteBufferOutputStream()) {
+			for (int written = 0; written < size; written += chunk.length) {
+				output.write(chunk, 0, Math.min(chunk.length, size - written));
+			}
+			return output.toByteBuffer();
+		}
+	}
+
+	@Benchmark
+	public ByteBuffer fileInputStreamExactSizeRead() {
+		try (FileInputStream inputStream = FileInputStream.create(file)) {
+			return Streams.toByteBuffer(inputStream);
+		}
+	}
+
+	@Benchmark
+	public ByteBuffer inputStreamCopy() throws IOException {
+		try (java.io.FileInputStream inputStream = new java.io.FileInputStream(file)) {
+			return Streams.toByteBuffer(inputStream);
+		}
+	}
+
+}
@@ -38,13 +38,18 @@ import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.burningwave.core.classes.Constructors;
+import org.burningwave.core.classes.Methods;
 import org.burningwave.core.concurrent.Mutex;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.IterableZipContainer;
@@ -57,11 +62,13 @@ public class Cache implements Component {
 	public final ObjectAndPathForResources<ClassLoader, Field[]> classLoaderForFields;
 	public final ObjectAndPathForResources<ClassLoader, Method[]> classLoaderForMethods;
 	public final ObjectAndPathForResources<ClassLoader, Constructor<?>[]> classLoaderForConstructors;
-	public final ObjectAndPathForResources<ClassLoader, Collection<Field>> uniqueKeyForFields;
-	public final ObjectAndPathForResources<ClassLoader, Collection<Constructor<?>>> uniqueKeyForConstructors;
-	public final ObjectAndPathForResources<ClassLoader, Collection<Method>> uniqueKeyForMethods;
+	public final ClassForResources<Collection<Field>> uniqueKeyForFields;
+	public final ClassForResources<Collection<Constructor<?>>> uniqueKeyForConstructors;
+	public final ClassForResources<Collection<Method>> uniqueKeyForMethods;
 	public final ObjectAndPathForResources<ClassLoader, Object> bindedFunctionalInterfaces;
-	public final ObjectAndPathForResources<ClassLoader, Map.Entry<java.lang.reflect.Executable, MethodHandle>> uniqueKeyForExecutableAndMethodHandle;
+	public final ClassForResources<Map.Entry<java.lang.reflect.Executable, MethodHandle>> uniqueKeyForExecutableAndMethodHandle;
+	public final ClassForResources<Methods.Invoker> uniqueKeyForMethodInvokers;
+	public final ClassForResources<Constructors.Instantiator<?>> uniqueKeyForInstantiators;
 	
 	private Cache() {
 		logInfo("Building cache");
@@ -70,12 +77,14 @@ public class Cache implements Component {
 		pathForZipFiles = new PathForResources<>(1L, zipFileContainer -> zipFileContainer);
 		classLoaderForFields = new ObjectAndPathForResources<>(1L, fields -> fields);
 		classLoaderForMethods = new ObjectAndPathForResources<>(1L, methods -> methods);
-		uniqueKeyForFields = new ObjectAndPathForResources<>(1L, field -> field);
-		uniqueKeyForMethods = new ObjectAndPathForResources<>(1L, constructors -> constructors);
-		uniqueKeyForConstructors = new ObjectAndPathForResources<>(1L, methods -> methods);
+		uniqueKeyForFields = new ClassForResources<>();
+		uniqueKeyForMethods = new ClassForResources<>();
+		uniqueKeyForConstructors = new ClassForResources<>();
 		classLoaderForConstructors = new ObjectAndPathForResources<>(1L, constructors -> constructors);
 		bindedFunctionalInterfaces = new ObjectAndPathForResources<>(1L, functionalInterface -> functionalInterface);	
-		uniqueKeyForExecutableAndMethodHandle = new ObjectAndPathForResources<>(1L, methodHandle -> methodHandle);
+		uniqueKeyForExecutableAndMethodHandle = new ClassForResources<>();
+		uniqueKeyForMethodInvokers = new ClassForResources<>();
+		uniqueKeyForInstantiators = new ClassForResources<>();
 	}
 	
 	public static Cache create() {
@@ -141,6 +150,73 @@ public class Cache implements Component {
 		}
 	}
 	
+	//The resources are bound to the class through a ClassValue, so they are released together with the class
+	public static class ClassForResources<R> implements Component  {
+		
+		ClassValue<Map<Object, R>> resources;
+		//The classes for which the resources map has been created: the ClassValue has no lookup that doesn't
+		//create the value, so the read only operations check this set first
+		Set<Class<?>> classesWithResources;
+		
+		public ClassForResources() {
+			this.resources = createResources();
+		}
+		
+		private ClassValue<Map<Object, R>> createResources() {
+			Set<Class<?>> classesWithResources = Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<>()));
+			this.classesWithResources = classesWithResources;
+			return new ClassValue<Map<Object, R>>() {
+				@Override
+				protected Map<Object, R> computeValue(Class<?> cls) {
+					classesWithResources.add(cls);
+					return new ConcurrentHashMap<>();
+				}
+			};
+		}
+		
+		private Map<Object, R> getResourcesIfPresent(Class<?> cls) {
+			ClassValue<Map<Object, R>> resources = this.resources;
+			Set<Class<?>> classesWithResources = this.classesWithResources;
+			return classesWithResources.contains(cls) ? resources.get(cls) : null;
+		}
+		
+		public R getOrUploadIfAbsent(Class<?> cls, Object key, Supplier<R> resourceSupplier) {
+			Map<Object, R> resourcesForClass = resources.get(cls);
+			R resource = resourcesForClass.get(key);
+			if (resource == null) {
+				synchronized (resourcesForClass) {
+					resource = resourcesForClass.get(key);
+					if (resource == null) {
+						resource = resourceSupplier.get();
+						resourcesForClass.put(key, resource);
+					}
+				}
+			}
+			return resource;
+		}
+		
+		public R get(Class<?> cls, Object key) {
+			Map<Object, R> resourcesForClass = getResourcesIfPresent(cls);
+			return resourcesForClass != null ? resourcesForClass.get(key) : null;
+		}
+		
+		public R remove(Class<?> cls, Object key) {
+			Map<Object, R> resourcesForClass = getResourcesIfPresent(cls);
+			return resourcesForClass != null ? resourcesForClass.remove(key) : null;
+		}
+		
+		public void remove(Class<?> cls) {
+			classesWithResources.remove(cls);
+			resources.remove(cls);
+		}
+		
+		@Override
+		public ClassForResources<R> clear() {
+			this.resources = createResources();
+			return this;
+		}
+	}
+	
 	public static class PathForResources<R> implements Component  {
 
 		Map<Long, Map<String, Map<String, R>>> resources;	
@@ -292,6 +368,8 @@ public class Cache implements Component {
 		clear(uniqueKeyForConstructors, toBeExcluded);
 		clear(uniqueKeyForMethods, toBeExcluded);
 		clear(uniqueKeyForExecutableAndMethodHandle, toBeExcluded);
+		clear(uniqueKeyForMethodInvokers, toBeExcluded);
+		clear(uniqueKeyForInstantiators, toBeExcluded);
 	}
 	
 	private void clear(Cleanable cache, Set<Cleanable> excluded) {
@@ -43,13 +43,17 @@ public class LoggingLevel {
 	public final static LoggingLevel WARN = new LoggingLevel(WARN_ENABLED);
 	public final static LoggingLevel ERROR = new LoggingLevel(ERROR_ENABLED);
 	
-	Integer flags;
+	int flags;
 	
 	public LoggingLevel(int flags){
 		this.flags = flags;
 	}
 	
 	public boolean matchPartialy(Integer flags) {
+		return matchPartialy(flags.intValue());
+	}
+	
+	boolean matchPartialy(int flags) {
 		return this.flags == 0 && flags == 0 || (this.flags & flags) != 0;
 	}
 	
@@ -63,7 +67,7 @@ public class LoggingLevel {
 			super(flags);
 		}
 		
-		public void add(Integer level) {
+		public void add(Integer flags) {
 			this.flags |= flags;
 		}
 		
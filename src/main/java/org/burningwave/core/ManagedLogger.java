@@ -34,6 +34,7 @@ import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLog
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.function.Supplier;
 
 public interface ManagedLogger {	
 	
@@ -57,6 +58,26 @@ public interface ManagedLogger {
 		ManagedLoggersRepository.setLoggingLevelFlags(this.getClass(), flag);
 	}
 	
+	default boolean isTraceEnabled() {
+		return ManagedLoggersRepository.isEnabled(this.getClass(), LoggingLevel.TRACE);
+	}
+	
+	default boolean isDebugEnabled() {
+		return ManagedLoggersRepository.isEnabled(this.getClass(), LoggingLevel.DEBUG);
+	}
+	
+	default boolean isInfoEnabled() {
+		return ManagedLoggersRepository.isEnabled(this.getClass(), LoggingLevel.INFO);
+	}
+	
+	default boolean isWarnEnabled() {
+		return ManagedLoggersRepository.isEnabled(this.getClass(), LoggingLevel.WARN);
+	}
+	
+	default boolean isErrorEnabled() {
+		return ManagedLoggersRepository.isEnabled(this.getClass(), LoggingLevel.ERROR);
+	}
+	
 	default void logError(String message, Throwable exc) {
 		ManagedLoggersRepository.logError(this.getClass(), message, exc);
 	}
@@ -73,6 +94,10 @@ public interface ManagedLogger {
 		ManagedLoggersRepository.logDebug(this.getClass(), message, arguments);
 	}
 	
+	default void logDebug(Supplier<String> messageSupplier) {
+		ManagedLoggersRepository.logDebug(this.getClass(), messageSupplier);
+	}
+	
 	default void logInfo(String message) {
 		ManagedLoggersRepository.logInfo(this.getClass(), message);
 	}
@@ -81,6 +106,10 @@ public interface ManagedLogger {
 		ManagedLoggersRepository.logInfo(this.getClass(), message, arguments);
 	}
 	
+	default void logInfo(Supplier<String> messageSupplier) {
+		ManagedLoggersRepository.logInfo(this.getClass(), messageSupplier);
+	}
+	
 	default void logWarn(String message) {
 		ManagedLoggersRepository.logWarn(this.getClass(), message);
 	}
@@ -89,6 +118,10 @@ public interface ManagedLogger {
 		ManagedLoggersRepository.logWarn(this.getClass(), message, arguments);
 	}
 	
+	default void logWarn(Supplier<String> messageSupplier) {
+		ManagedLoggersRepository.logWarn(this.getClass(), messageSupplier);
+	}
+	
 	
 	public static interface Repository {
 		public static class Configuration {
@@ -126,6 +159,11 @@ public interface ManagedLogger {
 		
 		public boolean isEnabled();
 		
+		//The repositories that can't check the level of each client are enabled for all the levels
+		public default boolean isEnabled(Class<?> client, LoggingLevel loggingLevel) {
+			return isEnabled();
+		}
+		
 		public void disableLogging();
 		
 		public void enableLogging();
@@ -142,18 +180,42 @@ public interface ManagedLogger {
 		
 		public void logDebug(Class<?> client, String message, Object... arguments);
 		
+		public default void logDebug(Class<?> client, Supplier<String> messageSupplier) {
+			if (isEnabled(client, LoggingLevel.DEBUG)) {
+				logDebug(client, messageSupplier.get());
+			}
+		}
+		
 		public void logInfo(Class<?> client, String message);
 		
 		public void logInfo(Class<?> client, String message, Object... arguments);
 		
+		public default void logInfo(Class<?> client, Supplier<String> messageSupplier) {
+			if (isEnabled(client, LoggingLevel.INFO)) {
+				logInfo(client, messageSupplier.get());
+			}
+		}
+		
 		public void logWarn(Class<?> client, String message);
 		
 		public void logWarn(Class<?> client, String message, Object... arguments);
 		
+		public default void logWarn(Class<?> client, Supplier<String> messageSupplier) {
+			if (isEnabled(client, LoggingLevel.WARN)) {
+				logWarn(client, messageSupplier.get());
+			}
+		}
+		
 		public void logTrace(Class<?> client, String message);
 		
 		public void logTrace(Class<?> client, String message, Object... arguments);
 		
+		public default void logTrace(Class<?> client, Supplier<String> messageSupplier) {
+			if (isEnabled(client, LoggingLevel.TRACE)) {
+				logTrace(client, messageSupplier.get());
+			}
+		}
+		
 		public static abstract class Abst implements Repository{
 			boolean isEnabled;
 			
@@ -29,17 +29,16 @@
 package org.burningwave.core;
 
 import java.util.AbstractMap;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Properties;
-import java.util.function.Consumer;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.LoggerFactory;
 
 public class SLF4JManagedLoggerRepository extends ManagedLogger.Repository.Abst {
 	private Map<String, Map.Entry<org.slf4j.Logger, LoggingLevel.Mutable>> loggers;
-	
+	//The entry of each client class is resolved only once: the logging level is then checked by reading its flags
+	private ClassValue<Map.Entry<org.slf4j.Logger, LoggingLevel.Mutable>> loggerEntries;
 	
 	public SLF4JManagedLoggerRepository(Properties properties) {
 		super(properties);
@@ -47,7 +46,13 @@ public class SLF4JManagedLoggerRepository extends ManagedLogger.Repository.Abst
 	
 	@Override
 	void init(Properties properties) {
-		loggers = new HashMap<>();		
+		loggers = new ConcurrentHashMap<>();
+		loggerEntries = new ClassValue<Map.Entry<org.slf4j.Logger, LoggingLevel.Mutable>>() {
+			@Override
+			protected Map.Entry<org.slf4j.Logger, LoggingLevel.Mutable> computeValue(Class<?> client) {
+				return getLoggerEntry(client.getName());
+			}
+		};
 	}
 	
 	@Override
@@ -84,28 +89,44 @@ public class SLF4JManagedLoggerRepository extends ManagedLogger.Repository.Abst
 	private Map.Entry<org.slf4j.Logger, LoggingLevel.Mutable> getLoggerEntry(String clientName) {
 		Map.Entry<org.slf4j.Logger, LoggingLevel.Mutable> loggerEntry = loggers.get(clientName);
 		if (loggerEntry == null) {
-			synchronized (loggers) {
-				loggerEntry = loggers.get(clientName);
-				if (loggerEntry == null) {
-					loggers.put(clientName, loggerEntry = new AbstractMap.SimpleEntry<>(
-						LoggerFactory.getLogger(clientName), new LoggingLevel.Mutable(LoggingLevel.ALL_LEVEL_ENABLED)));
-				}
-			}
+			loggerEntry = loggers.computeIfAbsent(clientName, key -> new AbstractMap.SimpleEntry<>(
+				LoggerFactory.getLogger(key), new LoggingLevel.Mutable(LoggingLevel.ALL_LEVEL_ENABLED))
+			);
 		}
 		return loggerEntry;
 	}
-
-	private void log(Class<?> client, LoggingLevel loggingLevel, Consumer<org.slf4j.Logger> loggerConsumer) {
-		Optional.ofNullable(getLogger(client, loggingLevel)).ifPresent(logger -> loggerConsumer.accept(logger));
-	}
 	
 	private org.slf4j.Logger getLogger(Class<?> client, LoggingLevel loggingLevel) {
 		if (!isEnabled) {
 			return null;
 		}
-		Map.Entry<org.slf4j.Logger, LoggingLevel.Mutable> loggerEntry = getLoggerEntry(client.getName());
-		return loggerEntry.getValue().partialyMatch(loggingLevel)? loggerEntry.getKey() : null;
-	}	
+		Map.Entry<org.slf4j.Logger, LoggingLevel.Mutable> loggerEntry = loggerEntries.get(client);
+		org.slf4j.Logger logger = loggerEntry.getKey();
+		return loggerEntry.getValue().partialyMatch(loggingLevel) && isEnabled(logger, loggingLevel)? logger : null;
+	}
+	
+	//Also the level configured in the SLF4J binding must be enabled, otherwise the message would be built for nothing
+	private boolean isEnabled(org.slf4j.Logger logger, LoggingLevel loggingLevel) {
+		switch (loggingLevel.flags) {
+			case LoggingLevel.TRACE_ENABLED:
+				return logger.isTraceEnabled();
+			case LoggingLevel.DEBUG_ENABLED:
+				return logger.isDebugEnabled();
+			case LoggingLevel.INFO_ENABLED:
+				return logger.isInfoEnabled();
+			case LoggingLevel.WARN_ENABLED:
+				return logger.isWarnEnabled();
+			case LoggingLevel.ERROR_ENABLED:
+				return logger.isErrorEnabled();
+			default:
+				return true;
+		}
+	}
+	
+	@Override
+	public boolean isEnabled(Class<?> client, LoggingLevel loggingLevel) {
+		return getLogger(client, loggingLevel) != null;
+	}
 	
 	@Override
 	public boolean isEnabled() {
@@ -129,44 +150,74 @@ public class SLF4JManagedLoggerRepository extends ManagedLogger.Repository.Abst
 	}
 	
 	public void logError(Class<?> client, String message, Throwable exc) {
-		log(client, LoggingLevel.ERROR, (logger) -> logger.error(message, exc));
+		org.slf4j.Logger logger = getLogger(client, LoggingLevel.ERROR);
+		if (logger != null) {
+			logger.error(message, exc);
+		}
 	}
 	
 	public void logError(Class<?> client, String message) {
-		log(client, LoggingLevel.ERROR, (logger) -> logger.error(message));
+		org.slf4j.Logger logger = getLogger(client, LoggingLevel.ERROR);
+		if (logger != null) {
+			logger.error(message);
+		}
 	}
 	
 	public void logDebug(Class<?> client, String message) {
-		log(client, LoggingLevel.DEBUG, (logger) -> logger.debug(message));
+		org.slf4j.Logger logger = getLogger(client, LoggingLevel.DEBUG);
+		if (logger != null) {
+			logger.debug(message);
+		}
 	}
 	
 	public void logDebug(Class<?> client, String message, Object... arguments) {
-		log(client, LoggingLevel.DEBUG, (logger) -> logger.debug(message, arguments));
+		org.slf4j.Logger logger = getLogger(client, LoggingLevel.DEBUG);
+		if (logger != null) {
+			logger.debug(message, arguments);
+		}
 	}
 	
 	public void logInfo(Class<?> client, String message) {
-		log(client, LoggingLevel.INFO, (logger) -> logger.info(message));
+		org.slf4j.Logger logger = getLogger(client, LoggingLevel.INFO);
+		if (logger != null) {
+			logger.info(message);
+		}
 	}
 	
 	public void logInfo(Class<?> client, String message, Object... arguments) {
-		log(client, LoggingLevel.INFO, (logger) -> logger.info(message, arguments));
+		org.slf4j.Logger logger = getLogger(client, LoggingLevel.INFO);
+		if (logger != null) {
+			logger.info(message, arguments);
+		}
 	}
 	
 	public void logWarn(Class<?> client, String message) {
-		log(client, LoggingLevel.WARN, (logger) -> logger.warn(message));
+		org.slf4j.Logger logger = getLogger(client, LoggingLevel.WARN);
+		if (logger != null) {
+			logger.warn(message);
+		}
 	}
 	
 	public void logWarn(Class<?> client, String message, Object... arguments) {
-		log(client, LoggingLevel.WARN, (logger) -> logger.warn(message, arguments));
+		org.slf4j.Logger logger = getLogger(client, LoggingLevel.WARN);
+		if (logger != null) {
+			logger.warn(message, arguments);
+		}
 	}
 
 	@Override
 	public void logTrace(Class<?> client, String message) {
-		log(client, LoggingLevel.TRACE, (logger) -> logger.trace(message));		
+		org.slf4j.Logger logger = getLogger(client, LoggingLevel.TRACE);
+		if (logger != null) {
+			logger.trace(message);
+		}
 	}
 
 	@Override
 	public void logTrace(Class<?> client, String message, Object... arguments) {
-		log(client, LoggingLevel.TRACE, (logger) -> logger.trace(message, arguments));
+		org.slf4j.Logger logger = getLogger(client, LoggingLevel.TRACE);
+		if (logger != null) {
+			logger.trace(message, arguments);
+		}
 	}
 }
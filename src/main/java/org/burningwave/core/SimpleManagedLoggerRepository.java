@@ -29,14 +29,16 @@
 package org.burningwave.core;
 
 import java.io.PrintStream;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.burningwave.core.ManagedLogger.Repository;
 
 public class SimpleManagedLoggerRepository extends Repository.Abst {
 	private Map<String, LoggingLevel.Mutable> loggers;
+	//The flags of each client class are resolved only once: the logging level is then checked by reading them
+	private ClassValue<LoggingLevel.Mutable> loggerEnabledFlags;
 	
 	public SimpleManagedLoggerRepository(Properties properties) {
 		super(properties);
@@ -45,18 +47,19 @@ public class SimpleManagedLoggerRepository extends Repository.Abst {
 	
 	@Override
 	void init(Properties properties) {
-		loggers = new HashMap<>();		
+		loggers = new ConcurrentHashMap<>();
+		loggerEnabledFlags = new ClassValue<LoggingLevel.Mutable>() {
+			@Override
+			protected LoggingLevel.Mutable computeValue(Class<?> client) {
+				return getLoggerEnabledFlag(client.getName());
+			}
+		};
 	}
 	
 	private LoggingLevel.Mutable getLoggerEnabledFlag(String clientName) {
 		LoggingLevel.Mutable loggerEnabledFlag = loggers.get(clientName);
 		if (loggerEnabledFlag == null) {
-			synchronized (getId(loggers, clientName)) {
-				loggerEnabledFlag = loggers.get(clientName);
-				if (loggerEnabledFlag == null) {
-					loggers.put(clientName, loggerEnabledFlag = new LoggingLevel.Mutable(LoggingLevel.ALL_LEVEL_ENABLED));
-				}
-			}
+			loggerEnabledFlag = loggers.computeIfAbsent(clientName, key -> new LoggingLevel.Mutable(LoggingLevel.ALL_LEVEL_ENABLED));
 		}
 		return loggerEnabledFlag;
 	}
@@ -92,76 +95,92 @@ public class SimpleManagedLoggerRepository extends Repository.Abst {
 		}
 	}
 	
-	private void setLoggerEnabledFlag(String client, LoggingLevel level) {
-		loggers.put(client, new LoggingLevel.Mutable(level.flags));
+	@Override
+	public boolean isEnabled(Class<?> client, LoggingLevel level) {
+		return isEnabled && loggerEnabledFlags.get(client).partialyMatch(level);
 	}
 
-	private void log(Class<?> client, LoggingLevel level, PrintStream printStream, String text, Throwable exception) {
-		if (!isEnabled) {
-			return;
-		}
-		if (getLoggerEnabledFlag(client.getName()).partialyMatch(level)) {
-			if (exception == null) {
-				printStream.println(client.getName() + " - " + text);
-			} else {
-				printStream.println(client.getName() + " - " + text);
-				exception.printStackTrace(printStream);
-			}
+	private void log(Class<?> client, PrintStream printStream, String text, Throwable exception) {
+		if (exception == null) {
+			printStream.println(client.getName() + " - " + text);
+		} else {
+			printStream.println(client.getName() + " - " + text);
+			exception.printStackTrace(printStream);
 		}
 	}
 	
 	public void disableLogging(Class<?> client) {
-		setLoggerEnabledFlag(client.getName(), new LoggingLevel.Mutable(LoggingLevel.ALL_LEVEL_DISABLED));
+		getLoggerEnabledFlag(client.getName()).set(LoggingLevel.ALL_LEVEL_DISABLED);
 	}
 	
 	public void enableLogging(Class<?> client) {
-		setLoggerEnabledFlag(client.getName(), new LoggingLevel.Mutable(LoggingLevel.ALL_LEVEL_ENABLED));
+		getLoggerEnabledFlag(client.getName()).set(LoggingLevel.ALL_LEVEL_ENABLED);
 	}
 	
 	public void logError(Class<?> client, String message, Throwable exc) {
-		log(client, LoggingLevel.ERROR, System.err, message, exc);
+		if (isEnabled(client, LoggingLevel.ERROR)) {
+			log(client, System.err, message, exc);
+		}
 	}
 
 	public void logError(Class<?> client, String message) {
-		log(client, LoggingLevel.ERROR, System.err, message, null);
+		if (isEnabled(client, LoggingLevel.ERROR)) {
+			log(client, System.err, message, null);
+		}
 	}
 	
 	public void logDebug(Class<?> client, String message) {
-		log(client, LoggingLevel.DEBUG, System.out, message, null);
+		if (isEnabled(client, LoggingLevel.DEBUG)) {
+			log(client, System.out, message, null);
+		}
 	}
 	
 	public void logDebug(Class<?> client, String message, Object... arguments) {
-		message = replacePlaceHolder(message, arguments);
-		log(client, LoggingLevel.DEBUG, System.out, message, null);
+		if (isEnabled(client, LoggingLevel.DEBUG)) {
+			message = replacePlaceHolder(message, arguments);
+			log(client, System.out, message, null);
+		}
 	}
 	
 	public void logInfo(Class<?> client, String message) {
-		log(client, LoggingLevel.INFO, System.out, message, null);
+		if (isEnabled(client, LoggingLevel.INFO)) {
+			log(client, System.out, message, null);
+		}
 	}
 	
 	public void logInfo(Class<?> client, String message, Object... arguments) {
-		message = replacePlaceHolder(message, arguments);
-		log(client, LoggingLevel.INFO, System.out, message, null);
+		if (isEnabled(client, LoggingLevel.INFO)) {
+			message = replacePlaceHolder(message, arguments);
+			log(client, System.out, message, null);
+		}
 	}
 	
 	public void logWarn(Class<?> client, String message) {
-		log(client, LoggingLevel.WARN, System.out, message, null);
+		if (isEnabled(client, LoggingLevel.WARN)) {
+			log(client, System.out, message, null);
+		}
 	}
 	
 	public void logWarn(Class<?> client, String message, Object... arguments) {
-		message = replacePlaceHolder(message, arguments);
-		log(client, LoggingLevel.WARN, System.out, message, null);
+		if (isEnabled(client, LoggingLevel.WARN)) {
+			message = replacePlaceHolder(message, arguments);
+			log(client, System.out, message, null);
+		}
 	}
 	
 	@Override
 	public void logTrace(Class<?> client, String message) {
-		log(client, LoggingLevel.TRACE, System.out, message, null);
+		if (isEnabled(client, LoggingLevel.TRACE)) {
+			log(client, System.out, message, null);
+		}
 	}
 
 	@Override
 	public void logTrace(Class<?> client, String message, Object... arguments) {
-		message = replacePlaceHolder(message, arguments);
-		log(client, LoggingLevel.TRACE, System.out, message, null);
+		if (isEnabled(client, LoggingLevel.TRACE)) {
+			message = replacePlaceHolder(message, arguments);
+			log(client, System.out, message, null);
+		}
 	}
 	
 	private String replacePlaceHolder(String message, Object... arguments) {
@@ -174,7 +174,9 @@ public class Strings implements Component {
 					}					
 					foundString.add(matcher.group(i));
 				} catch (IndexOutOfBoundsException exc) {
-					logDebug("group " + i + " not found on string \"" + target + "\" using pattern " + pattern.pattern());
+					if (isDebugEnabled()) {
+						logDebug("group " + i + " not found on string \"" + target + "\" using pattern " + pattern.pattern());
+					}
 				}
 			}
 		}
@@ -62,6 +62,8 @@ import org.burningwave.core.classes.ExecuteConfig;
 import org.burningwave.core.classes.FunctionalInterfaceFactory;
 import org.burningwave.core.classes.JavaMemoryCompiler;
 import org.burningwave.core.classes.PathScannerClassLoader;
+import org.burningwave.core.classes.Snapshot;
+import org.burningwave.core.concurrent.TaskExecutor;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.PathHelper;
 import org.burningwave.core.iterable.Properties;
@@ -132,15 +134,18 @@ public class ComponentContainer implements ComponentSupplier {
 		defaultProperties.putAll(ClassPathScannerWithCachingSupport.Configuration.DEFAULT_VALUES);
 		defaultProperties.putAll(ClassHunter.Configuration.DEFAULT_VALUES);
 		defaultProperties.putAll(PathScannerClassLoader.Configuration.DEFAULT_VALUES);
+		defaultProperties.putAll(CodeExecutor.Configuration.DEFAULT_VALUES);
+		defaultProperties.putAll(TaskExecutor.Configuration.DEFAULT_VALUES);
 				
 		config.putAll(GlobalProperties);
 		Optional.ofNullable(propertySupplier.get()).ifPresent(customConfig -> config.putAll(customConfig));
 		for (Map.Entry<Object, Object> defVal : defaultProperties.entrySet()) {
 			config.putIfAbsent(defVal.getKey(), defVal.getValue());
 		}
-		logInfo(
-			"Configuration values:\n\n{}\n\n... Are assumed",
-			new TreeMap<>(config).entrySet().stream().map(entry -> "\t" + entry.getKey() + "=" + entry.getValue()).collect(Collectors.joining("\n"))
+		logInfo(() ->
+			"Configuration values:\n\n" +
+			new TreeMap<>(config).entrySet().stream().map(entry -> "\t" + entry.getKey() + "=" + entry.getValue()).collect(Collectors.joining("\n")) +
+			"\n\n... Are assumed"
 		);
 		listenTo(GlobalProperties);
 		return this;
@@ -276,6 +281,7 @@ public class ComponentContainer implements ComponentSupplier {
 			return ClassHunter.create(
 				() -> getClassHunter(),
 				getPathHelper(),
+				getTaskExecutor(),
 				(Supplier<?>)() -> retrieveFromConfig(ClassHunter.Configuration.Key.DEFAULT_PATH_SCANNER_CLASS_LOADER, ClassHunter.Configuration.DEFAULT_VALUES),
 				getClassLoaderResetter(),
 				config
@@ -291,6 +297,7 @@ public class ComponentContainer implements ComponentSupplier {
 				() -> getByteCodeHunter(),
 				() -> getClassHunter(),
 				getPathHelper(),
+				getTaskExecutor(),
 				config
 			)
 		);
@@ -302,6 +309,7 @@ public class ComponentContainer implements ComponentSupplier {
 			ByteCodeHunter.create(
 				() -> getClassHunter(),
 				getPathHelper(),
+				getTaskExecutor(),
 				config
 			)
 		);
@@ -325,6 +333,47 @@ public class ComponentContainer implements ComponentSupplier {
 		);
 	}
 	
+	@Override
+	public TaskExecutor getTaskExecutor() {
+		return getOrCreate(TaskExecutor.class, () ->
+			TaskExecutor.create(
+				config
+			)
+		);
+	}
+	
+	
+	public ComponentContainer storeSnapshot(String absolutePath) {
+		waitForInitializationEnding();
+		Snapshot.store(
+			absolutePath,
+			config,
+			(PathHelper)components.get(PathHelper.class),
+			(ByteCodeHunter)components.get(ByteCodeHunter.class),
+			(ClassFactory)components.get(ClassFactory.class)
+		);
+		return this;
+	}
+	
+	public ComponentContainer loadSnapshot(String absolutePath) {
+		waitForInitializationEnding();
+		Snapshot snapshot = Snapshot.load(absolutePath);
+		if (snapshot.containsPathGroupsFor(config)) {
+			getOrCreate(PathHelper.class, () ->
+				PathHelper.create(
+					config,
+					snapshot.getPathGroups()
+				)
+			);
+		}
+		if (snapshot.containsByteCodeHunterCache()) {
+			snapshot.loadInCache(getByteCodeHunter());
+		}
+		if (snapshot.containsByteCodesOfGeneratedClasses()) {
+			snapshot.loadIn(getClassFactory());
+		}
+		return this;
+	}
 	
 	private <T> T retrieveFromConfig(String configKey, Map<String, Object> defaultValues) {
 		T object = config.resolveValue(configKey, defaultValues);
@@ -39,6 +39,7 @@ import org.burningwave.core.classes.CodeExecutor;
 import org.burningwave.core.classes.FunctionalInterfaceFactory;
 import org.burningwave.core.classes.JavaMemoryCompiler;
 import org.burningwave.core.classes.PathScannerClassLoader;
+import org.burningwave.core.concurrent.TaskExecutor;
 import org.burningwave.core.io.PathHelper;
 
 public interface ComponentSupplier extends Component {
@@ -67,6 +68,10 @@ public interface ComponentSupplier extends Component {
 	
 	public PathScannerClassLoader getPathScannerClassLoader();
 	
+	public default TaskExecutor getTaskExecutor() {
+		return TaskExecutor.getDefault();
+	}
+	
 	public default void clearHuntersCache() {
 		clearHuntersCache(false);
 	}
@@ -34,9 +34,12 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.burningwave.core.function.ThrowingSupplier;
 import org.burningwave.core.iterable.Properties;
@@ -80,22 +83,25 @@ public class StaticComponentContainer {
 	public static final org.burningwave.core.Throwables Throwables;
 	
 	static {
+		Map<String, Long> initializationTimes = new LinkedHashMap<>();
+		long initializationStartTime = System.nanoTime();
 		Properties properties = new Properties();
 		properties.putAll(Configuration.DEFAULT_VALUES);
 		properties.putAll(org.burningwave.core.io.Streams.Configuration.DEFAULT_VALUES);
 		properties.putAll(org.burningwave.core.ManagedLogger.Repository.Configuration.DEFAULT_VALUES);
 		
-		Strings = org.burningwave.core.Strings.create();
-		IterableObjectHelper = org.burningwave.core.iterable.IterableObjectHelper.create();
-		Throwables = org.burningwave.core.Throwables.create();
-		Resources = new org.burningwave.core.io.Resources();
-		Map.Entry<org.burningwave.core.iterable.Properties, URL> propBag =
-			Resources.loadFirstOneFound(properties, "burningwave.static.properties", "burningwave.static.default.properties");
+		Strings = create(initializationTimes, "Strings", org.burningwave.core.Strings::create);
+		IterableObjectHelper = create(initializationTimes, "IterableObjectHelper", org.burningwave.core.iterable.IterableObjectHelper::create);
+		Throwables = create(initializationTimes, "Throwables", org.burningwave.core.Throwables::create);
+		Resources = create(initializationTimes, "Resources", org.burningwave.core.io.Resources::new);
+		Map.Entry<org.burningwave.core.iterable.Properties, URL> propBag = create(initializationTimes, "GlobalProperties", () ->
+			Resources.loadFirstOneFound(properties, "burningwave.static.properties", "burningwave.static.default.properties")
+		);
 		GlobalProperties = propBag.getKey();
 		if (!Boolean.valueOf(GlobalProperties.getProperty(Configuration.Key.HIDE_BANNER_ON_INIT))) {
 			showBanner();
 		}
-		ManagedLoggersRepository = createManagedLoggersRepository(GlobalProperties);
+		ManagedLoggersRepository = create(initializationTimes, "ManagedLoggersRepository", () -> createManagedLoggersRepository(GlobalProperties));
 		URL globalPropertiesFileUrl = propBag.getValue();
 		if (globalPropertiesFileUrl != null) {
 			ManagedLoggersRepository.logInfo(
@@ -110,33 +116,54 @@ public class StaticComponentContainer {
 		}
 		ManagedLoggersRepository.logInfo(StaticComponentContainer.class, "Instantiated {}", ManagedLoggersRepository.getClass().getName());
 		try {			
-			Paths = org.burningwave.core.Strings.Paths.create();
-			FileSystemHelper = org.burningwave.core.io.FileSystemHelper.create();
+			Paths = create(initializationTimes, "Paths", org.burningwave.core.Strings.Paths::create);
+			FileSystemHelper = create(initializationTimes, "FileSystemHelper", org.burningwave.core.io.FileSystemHelper::create);
 			Runtime.getRuntime().addShutdownHook(new Thread(FileSystemHelper::deleteTemporaryFolders));
 			String clearTemporaryFolderFlag = GlobalProperties.getProperty(Configuration.Key.CLEAR_TEMPORARY_FOLDER_ON_INIT);
 			if (Boolean.valueOf(clearTemporaryFolderFlag)) {
-				FileSystemHelper.clearMainTemporaryFolder();
+				create(initializationTimes, "Main temporary folder cleaning", () -> {
+					FileSystemHelper.clearMainTemporaryFolder();
+					return null;
+				});
 			}
-			ByteBufferDelegate = org.burningwave.core.jvm.LowLevelObjectsHandler.ByteBufferDelegate.create();
-			Streams = org.burningwave.core.io.Streams.create(GlobalProperties);
-			JVMInfo = org.burningwave.core.jvm.JVMInfo.create();
-			LowLevelObjectsHandler = org.burningwave.core.jvm.LowLevelObjectsHandler.create();
-			Classes = org.burningwave.core.classes.Classes.create();
-			ClassLoaders = org.burningwave.core.classes.Classes.Loaders.create();
-			Cache = org.burningwave.core.Cache.create();
-			Members = org.burningwave.core.classes.Members.create();
-			Constructors = org.burningwave.core.classes.Constructors.create();
-			Fields = org.burningwave.core.classes.Fields.create();
-			Methods = org.burningwave.core.classes.Methods.create();
-			ByFieldOrByMethodPropertyAccessor = org.burningwave.core.classes.PropertyAccessor.ByFieldOrByMethod.create();
-			ByMethodOrByFieldPropertyAccessor = org.burningwave.core.classes.PropertyAccessor.ByMethodOrByField.create();
-			SourceCodeHandler = org.burningwave.core.classes.SourceCodeHandler.create();
+			ByteBufferDelegate = create(initializationTimes, "ByteBufferDelegate", org.burningwave.core.jvm.LowLevelObjectsHandler.ByteBufferDelegate::create);
+			Streams = create(initializationTimes, "Streams", () -> org.burningwave.core.io.Streams.create(GlobalProperties));
+			JVMInfo = create(initializationTimes, "JVMInfo", org.burningwave.core.jvm.JVMInfo::create);
+			LowLevelObjectsHandler = create(initializationTimes, "LowLevelObjectsHandler", org.burningwave.core.jvm.LowLevelObjectsHandler::create);
+			Classes = create(initializationTimes, "Classes", org.burningwave.core.classes.Classes::create);
+			ClassLoaders = create(initializationTimes, "ClassLoaders", org.burningwave.core.classes.Classes.Loaders::create);
+			Cache = create(initializationTimes, "Cache", org.burningwave.core.Cache::create);
+			Members = create(initializationTimes, "Members", org.burningwave.core.classes.Members::create);
+			Constructors = create(initializationTimes, "Constructors", org.burningwave.core.classes.Constructors::create);
+			Fields = create(initializationTimes, "Fields", org.burningwave.core.classes.Fields::create);
+			Methods = create(initializationTimes, "Methods", org.burningwave.core.classes.Methods::create);
+			ByFieldOrByMethodPropertyAccessor = create(initializationTimes, "ByFieldOrByMethodPropertyAccessor", org.burningwave.core.classes.PropertyAccessor.ByFieldOrByMethod::create);
+			ByMethodOrByFieldPropertyAccessor = create(initializationTimes, "ByMethodOrByFieldPropertyAccessor", org.burningwave.core.classes.PropertyAccessor.ByMethodOrByField::create);
+			SourceCodeHandler = create(initializationTimes, "SourceCodeHandler", org.burningwave.core.classes.SourceCodeHandler::create);
+			long initializationTime = System.nanoTime() - initializationStartTime;
+			ManagedLoggersRepository.logInfo(StaticComponentContainer.class, () ->
+				"Static components initialized in " + toMillis(initializationTime) + " ms:\n\n" +
+				initializationTimes.entrySet().stream().map(entry ->
+					"\t" + entry.getKey() + ": " + toMillis(entry.getValue()) + " ms"
+				).collect(Collectors.joining("\n")) + "\n"
+			);
 		} catch (Throwable exc){
 			ManagedLoggersRepository.logError(StaticComponentContainer.class, "Exception occurred", exc);
 			throw Throwables.toRuntimeException(exc);
 		}
 	}
 
+	private static <T> T create(Map<String, Long> initializationTimes, String name, Supplier<T> componentSupplier) {
+		long startTime = System.nanoTime();
+		T component = componentSupplier.get();
+		initializationTimes.put(name, System.nanoTime() - startTime);
+		return component;
+	}
+	
+	private static String toMillis(long nanoTime) {
+		return String.format("%.3f", nanoTime / 1_000_000d);
+	}
+	
 	static void showBanner() {
 		List<String> bannerList = Arrays.asList(
 			Resources.getAsStringBuffer(
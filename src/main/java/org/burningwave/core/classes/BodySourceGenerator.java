@@ -29,6 +29,7 @@
 package org.burningwave.core.classes;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Optional;
 
@@ -139,7 +140,20 @@ public class BodySourceGenerator extends SourceGenerator.Abst {
 	
 	@Override
 	public String make() {
-		return getOrEmpty(startingDelimiter, getOrEmpty((Collection<?>)bodyGenerators, (String)Optional.ofNullable(elementSeparator).orElse(EMPTY_SPACE)), endingDelimiter);
+		return render();
+	}
+	
+	@Override
+	public void make(Output output) {
+		append(
+			output,
+			Arrays.asList(
+				startingDelimiter,
+				joined(bodyGenerators, Optional.ofNullable(elementSeparator).orElse(EMPTY_SPACE)),
+				endingDelimiter
+			),
+			EMPTY_SPACE
+		);
 	}
 	
 }
@@ -0,0 +1,466 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+class ByteCodeGenerator {
+	static final int JAVA_8_CLASS_FILE_VERSION = 52;
+	static final int ACC_SUPER = 0x0020;
+	static final int ACC_VARARGS = 0x0080;
+	static final int ACC_INTERFACE = 0x0200;
+	static final int ACC_ABSTRACT = 0x0400;
+	
+	private static final int CONSTANT_UTF8 = 1;
+	private static final int CONSTANT_CLASS = 7;
+	private static final int CONSTANT_FIELD_REF = 9;
+	private static final int CONSTANT_METHOD_REF = 10;
+	private static final int CONSTANT_INTERFACE_METHOD_REF = 11;
+	private static final int CONSTANT_NAME_AND_TYPE = 12;
+	
+	private final ByteArrayOutputStream constantPool;
+	private final DataOutputStream constantPoolWriter;
+	private final Map<String, Integer> constantIndexes;
+	private int constantsCount;
+	private final int access;
+	private final int thisClass;
+	private final int superClass;
+	private final Collection<Integer> interfaces;
+	private final Collection<Member> fields;
+	private final Collection<Member> methods;
+	private Integer signature;
+	
+	ByteCodeGenerator(int access, String internalName, String superInternalName, String... interfacesInternalName) {
+		this.constantPool = new ByteArrayOutputStream(512);
+		this.constantPoolWriter = new DataOutputStream(constantPool);
+		this.constantIndexes = new HashMap<>();
+		this.constantsCount = 1;
+		this.access = access;
+		this.thisClass = classConstant(internalName);
+		this.superClass = classConstant(superInternalName);
+		this.interfaces = new ArrayList<>();
+		for (String interfaceInternalName : interfacesInternalName) {
+			interfaces.add(classConstant(interfaceInternalName));
+		}
+		this.fields = new ArrayList<>();
+		this.methods = new ArrayList<>();
+	}
+	
+	static String getInternalName(String className) {
+		return className.replace('.', '/');
+	}
+	
+	static String getInternalName(Class<?> cls) {
+		return getInternalName(cls.getName());
+	}
+	
+	static String getDescriptor(Class<?> cls) {
+		if (cls.isPrimitive()) {
+			if (cls == int.class) {
+				return "I";
+			} else if (cls == void.class) {
+				return "V";
+			} else if (cls == boolean.class) {
+				return "Z";
+			} else if (cls == long.class) {
+				return "J";
+			} else if (cls == double.class) {
+				return "D";
+			} else if (cls == float.class) {
+				return "F";
+			} else if (cls == byte.class) {
+				return "B";
+			} else if (cls == char.class) {
+				return "C";
+			}
+			return "S";
+		} else if (cls.isArray()) {
+			return getInternalName(cls);
+		}
+		return "L" + getInternalName(cls) + ";";
+	}
+	
+	static String getMethodDescriptor(String returnTypeDescriptor, Class<?>... parameterTypes) {
+		StringBuilder descriptor = new StringBuilder("(");
+		for (Class<?> parameterType : parameterTypes) {
+			descriptor.append(getDescriptor(parameterType));
+		}
+		return descriptor.append(")").append(returnTypeDescriptor).toString();
+	}
+	
+	static String getMethodDescriptor(Class<?> returnType, Class<?>... parameterTypes) {
+		return getMethodDescriptor(getDescriptor(returnType), parameterTypes);
+	}
+	
+	static int getSize(String typeDescriptor) {
+		char type = typeDescriptor.charAt(0);
+		return type == 'V' ? 0 : type == 'J' || type == 'D' ? 2 : 1;
+	}
+	
+	static int getParametersSize(String methodDescriptor) {
+		int size = 0;
+		for (int i = 1; methodDescriptor.charAt(i) != ')'; i++) {
+			int start = i;
+			while (methodDescriptor.charAt(i) == '[') {
+				i++;
+			}
+			if (methodDescriptor.charAt(i) == 'L') {
+				i = methodDescriptor.indexOf(';', i);
+			}
+			size += getSize(methodDescriptor.substring(start, i + 1));
+		}
+		return size;
+	}
+	
+	static String getReturnTypeDescriptor(String methodDescriptor) {
+		return methodDescriptor.substring(methodDescriptor.indexOf(')') + 1);
+	}
+	
+	ByteCodeGenerator setSignature(String signature) {
+		this.signature = utf8Constant(signature);
+		return this;
+	}
+	
+	ByteCodeGenerator addField(int access, String name, String descriptor) {
+		fields.add(new Member(access, utf8Constant(name), utf8Constant(descriptor), null));
+		return this;
+	}
+	
+	Code addMethod(int access, String name, String descriptor) {
+		return addMethod(access, name, descriptor, null);
+	}
+	
+	Code addMethod(int access, String name, String descriptor, String signature) {
+		Code code = (access & ACC_ABSTRACT) == 0 ?
+			new Code(getParametersSize(descriptor) + ((access & java.lang.reflect.Modifier.STATIC) == 0 ? 1 : 0)) :
+			null;
+		Member method = new Member(access, utf8Constant(name), utf8Constant(descriptor), code);
+		if (signature != null) {
+			method.signature = utf8Constant(signature);
+		}
+		methods.add(method);
+		return code;
+	}
+	
+	ByteBuffer toByteCode() {
+		try {
+			ByteArrayOutputStream output = new ByteArrayOutputStream(constantPool.size() + 256);
+			DataOutputStream writer = new DataOutputStream(output);
+			int codeAttributeName = utf8Constant("Code");
+			int signatureAttributeName = utf8Constant("Signature");
+			writer.writeInt(0xCAFEBABE);
+			writer.writeShort(0);
+			writer.writeShort(JAVA_8_CLASS_FILE_VERSION);
+			writer.writeShort(constantsCount);
+			constantPool.writeTo(output);
+			writer.writeShort(access);
+			writer.writeShort(thisClass);
+			writer.writeShort(superClass);
+			writer.writeShort(interfaces.size());
+			for (Integer interfaceIndex : interfaces) {
+				writer.writeShort(interfaceIndex);
+			}
+			writer.writeShort(fields.size());
+			for (Member field : fields) {
+				field.write(writer, codeAttributeName, signatureAttributeName);
+			}
+			writer.writeShort(methods.size());
+			for (Member method : methods) {
+				method.write(writer, codeAttributeName, signatureAttributeName);
+			}
+			if (signature != null) {
+				writer.writeShort(1);
+				writer.writeShort(signatureAttributeName);
+				writer.writeInt(2);
+				writer.writeShort(signature);
+			} else {
+				writer.writeShort(0);
+			}
+			writer.flush();
+			return ByteBuffer.wrap(output.toByteArray());
+		} catch (IOException exc) {
+			throw Throwables.toRuntimeException(exc);
+		}
+	}
+	
+	private int utf8Constant(String value) {
+		return constant("U" + value, writer -> {
+			writer.writeByte(CONSTANT_UTF8);
+			writer.writeUTF(value);
+		});
+	}
+	
+	private int classConstant(String internalName) {
+		int nameIndex = utf8Constant(internalName);
+		return constant("C" + internalName, writer -> {
+			writer.writeByte(CONSTANT_CLASS);
+			writer.writeShort(nameIndex);
+		});
+	}
+	
+	private int nameAndTypeConstant(String name, String descriptor) {
+		int nameIndex = utf8Constant(name);
+		int descriptorIndex = utf8Constant(descriptor);
+		return constant("T" + name + ":" + descriptor, writer -> {
+			writer.writeByte(CONSTANT_NAME_AND_TYPE);
+			writer.writeShort(nameIndex);
+			writer.writeShort(descriptorIndex);
+		});
+	}
+	
+	private int memberReferenceConstant(int tag, String ownerInternalName, String name, String descriptor) {
+		int classIndex = classConstant(ownerInternalName);
+		int nameAndTypeIndex = nameAndTypeConstant(name, descriptor);
+		return constant(tag + ownerInternalName + "." + name + ":" + descriptor, writer -> {
+			writer.writeByte(tag);
+			writer.writeShort(classIndex);
+			writer.writeShort(nameAndTypeIndex);
+		});
+	}
+	
+	private int constant(String key, ConstantWriter constantWriter) {
+		Integer index = constantIndexes.get(key);
+		if (index == null) {
+			try {
+				constantWriter.write(constantPoolWriter);
+			} catch (IOException exc) {
+				throw Throwables.toRuntimeException(exc);
+			}
+			constantIndexes.put(key, index = constantsCount++);
+		}
+		return index;
+	}
+	
+	@FunctionalInterface
+	private static interface ConstantWriter {
+		
+		void write(DataOutputStream writer) throws IOException;
+		
+	}
+	
+	private static class Member {
+		private final int access;
+		private final int name;
+		private final int descriptor;
+		private final Code code;
+		private Integer signature;
+		
+		Member(int access, int name, int descriptor, Code code) {
+			this.access = access;
+			this.name = name;
+			this.descriptor = descriptor;
+			this.code = code;
+		}
+		
+		void write(DataOutputStream writer, int codeAttributeName, int signatureAttributeName) throws IOException {
+			writer.writeShort(access);
+			writer.writeShort(name);
+			writer.writeShort(descriptor);
+			writer.writeShort((code != null ? 1 : 0) + (signature != null ? 1 : 0));
+			if (signature != null) {
+				writer.writeShort(signatureAttributeName);
+				writer.writeInt(2);
+				writer.writeShort(signature);
+			}
+			if (code != null) {
+				byte[] instructions = code.instructions.toByteArray();
+				writer.writeShort(codeAttributeName);
+				writer.writeInt(12 + instructions.length);
+				writer.writeShort(code.maxStack);
+				writer.writeShort(code.maxLocals);
+				writer.writeInt(instructions.length);
+				writer.write(instructions);
+				writer.writeShort(0);
+				writer.writeShort(0);
+			}
+		}
+	}
+	
+	class Code {
+		private final ByteArrayOutputStream instructions;
+		private final int maxLocals;
+		private int stackSize;
+		private int maxStack;
+		
+		private Code(int maxLocals) {
+			this.instructions = new ByteArrayOutputStream(32);
+			this.maxLocals = maxLocals;
+		}
+		
+		Code loadThis() {
+			return load("L", 0);
+		}
+		
+		Code load(String typeDescriptor, int slot) {
+			int opcode;
+			switch (typeDescriptor.charAt(0)) {
+				case 'J' : opcode = 0x16; break;
+				case 'F' : opcode = 0x17; break;
+				case 'D' : opcode = 0x18; break;
+				case 'L' : case '[' : opcode = 0x19; break;
+				default : opcode = 0x15;
+			}
+			if (slot <= 3) {
+				write(0x1a + ((opcode - 0x15) * 4) + slot);
+			} else {
+				write(opcode);
+				write(slot);
+			}
+			return push(getSize(typeDescriptor));
+		}
+		
+		Code loadParameters(String methodDescriptor, int firstSlot) {
+			int slot = firstSlot;
+			for (int i = 1; methodDescriptor.charAt(i) != ')'; i++) {
+				int start = i;
+				while (methodDescriptor.charAt(i) == '[') {
+					i++;
+				}
+				if (methodDescriptor.charAt(i) == 'L') {
+					i = methodDescriptor.indexOf(';', i);
+				}
+				String typeDescriptor = methodDescriptor.substring(start, i + 1);
+				load(typeDescriptor, slot);
+				slot += getSize(typeDescriptor);
+			}
+			return this;
+		}
+		
+		Code returnValue(String typeDescriptor) {
+			switch (typeDescriptor.charAt(0)) {
+				case 'V' : write(0xb1); break;
+				case 'J' : write(0xad); break;
+				case 'F' : write(0xae); break;
+				case 'D' : write(0xaf); break;
+				case 'L' : case '[' : write(0xb0); break;
+				default : write(0xac);
+			}
+			return pop(getSize(typeDescriptor));
+		}
+		
+		Code getField(String ownerInternalName, String name, String typeDescriptor) {
+			writeWithIndex(0xb4, memberReferenceConstant(CONSTANT_FIELD_REF, ownerInternalName, name, typeDescriptor));
+			return pop(1).push(getSize(typeDescriptor));
+		}
+		
+		Code putField(String ownerInternalName, String name, String typeDescriptor) {
+			writeWithIndex(0xb5, memberReferenceConstant(CONSTANT_FIELD_REF, ownerInternalName, name, typeDescriptor));
+			return pop(1 + getSize(typeDescriptor));
+		}
+		
+		Code newInstance(String internalName) {
+			writeWithIndex(0xbb, classConstant(internalName));
+			return push(1);
+		}
+		
+		Code pushInt(int value) {
+			if (value >= -1 && value <= 5) {
+				write(0x03 + value);
+			} else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+				write(0x10);
+				write(value);
+			} else {
+				write(0x11);
+				write(value >> 8);
+				write(value);
+			}
+			return push(1);
+		}
+		
+		Code loadArrayElement() {
+			write(0x32);
+			return pop(1);
+		}
+		
+		Code checkCast(String internalName) {
+			writeWithIndex(0xc0, classConstant(internalName));
+			return this;
+		}
+		
+		Code duplicate() {
+			write(0x59);
+			return push(1);
+		}
+		
+		Code invokeSpecial(String ownerInternalName, String name, String descriptor) {
+			writeWithIndex(0xb7, memberReferenceConstant(CONSTANT_METHOD_REF, ownerInternalName, name, descriptor));
+			return pop(1 + getParametersSize(descriptor)).push(getSize(getReturnTypeDescriptor(descriptor)));
+		}
+		
+		Code invokeVirtual(String ownerInternalName, String name, String descriptor) {
+			writeWithIndex(0xb6, memberReferenceConstant(CONSTANT_METHOD_REF, ownerInternalName, name, descriptor));
+			return pop(1 + getParametersSize(descriptor)).push(getSize(getReturnTypeDescriptor(descriptor)));
+		}
+		
+		Code invokeStatic(String ownerInternalName, String name, String descriptor) {
+			writeWithIndex(0xb8, memberReferenceConstant(CONSTANT_METHOD_REF, ownerInternalName, name, descriptor));
+			return pop(getParametersSize(descriptor)).push(getSize(getReturnTypeDescriptor(descriptor)));
+		}
+		
+		Code invokeInterface(String ownerInternalName, String name, String descriptor) {
+			int argumentsSize = 1 + getParametersSize(descriptor);
+			writeWithIndex(0xb9, memberReferenceConstant(CONSTANT_INTERFACE_METHOD_REF, ownerInternalName, name, descriptor));
+			write(argumentsSize);
+			write(0);
+			return pop(argumentsSize).push(getSize(getReturnTypeDescriptor(descriptor)));
+		}
+		
+		private void writeWithIndex(int opcode, int index) {
+			write(opcode);
+			write(index >> 8);
+			write(index);
+		}
+		
+		private void write(int value) {
+			instructions.write(value & 0xFF);
+		}
+		
+		private Code push(int size) {
+			stackSize += size;
+			if (stackSize > maxStack) {
+				maxStack = stackSize;
+			}
+			return this;
+		}
+		
+		private Code pop(int size) {
+			stackSize -= size;
+			return this;
+		}
+	}
+}
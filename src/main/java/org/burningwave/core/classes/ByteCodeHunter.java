@@ -35,6 +35,7 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.burningwave.core.classes.ClassCriteria.TestContext;
+import org.burningwave.core.concurrent.TaskExecutor;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.PathHelper;
 import org.burningwave.core.iterable.Properties;
@@ -44,11 +45,13 @@ public class ByteCodeHunter extends ClassPathScannerWithCachingSupport<JavaClass
 	private ByteCodeHunter(
 		Supplier<ClassHunter> classHunterSupplier,
 		PathHelper pathHelper,
+		TaskExecutor taskExecutor,
 		Properties config
 	) {
 		super(
 			classHunterSupplier,
 			pathHelper,
+			taskExecutor,
 			(initContext) -> SearchContext.<JavaClass>create(
 				initContext
 			),
@@ -62,7 +65,16 @@ public class ByteCodeHunter extends ClassPathScannerWithCachingSupport<JavaClass
 		PathHelper pathHelper,
 		Properties config
 	) {
-		return new ByteCodeHunter(classHunterSupplier, pathHelper, config);
+		return create(classHunterSupplier, pathHelper, TaskExecutor.getDefault(), config);
+	}
+	
+	public static ByteCodeHunter create(
+		Supplier<ClassHunter> classHunterSupplier, 
+		PathHelper pathHelper,
+		TaskExecutor taskExecutor,
+		Properties config
+	) {
+		return new ByteCodeHunter(classHunterSupplier, pathHelper, taskExecutor, config);
 	}
 	
 	@Override
@@ -72,6 +84,12 @@ public class ByteCodeHunter extends ClassPathScannerWithCachingSupport<JavaClass
 			super.testClassCriteria(context, javaClass);
 	}
 	
+	@Override
+	String retrievePackageName(JavaClass javaClass) {
+		String packageName = javaClass.getPackageName();
+		return packageName != null ? packageName : "";
+	}
+	
 	@Override
 	<S extends SearchConfigAbst<S>> ClassCriteria.TestContext testCachedItem(SearchContext<JavaClass> context, String path, String key, JavaClass javaClass) {
 		return context.getSearchConfig().getClassCriteria().hasNoPredicate() ?
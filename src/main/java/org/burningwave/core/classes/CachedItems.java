@@ -0,0 +1,316 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.burningwave.core.io.FileSystemItem;
+
+//Read only map of the items cached for a base path: the keys, the items and the file system items of the keys
+//are stored in parallel arrays indexed by an open addressing table of positions, so that no node is allocated
+//for each entry and the file system items don't need a second map. Only the per base path cache is stored
+//this way: the result maps of SearchContext are filled concurrently while scanning and remain hash maps
+final class CachedItems<I> extends AbstractMap<String, I> {
+	private volatile Table table;
+	
+	CachedItems(Map<String, I> items) {
+		this.table = new Table(items);
+	}
+	
+	@Override
+	public int size() {
+		return table.keys.length;
+	}
+	
+	@Override
+	public boolean containsKey(Object key) {
+		return table.positionOf(key) >= 0;
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public I get(Object key) {
+		Table table = this.table;
+		int position = table.positionOf(key);
+		return position >= 0 ? (I)table.items[position] : null;
+	}
+	
+	@Override
+	public Set<Entry<String, I>> entrySet() {
+		return new AbstractSet<Entry<String, I>>() {
+			
+			@Override
+			public int size() {
+				return CachedItems.this.size();
+			}
+			
+			@Override
+			public Iterator<Entry<String, I>> iterator() {
+				return Spliterators.iterator(spliterator());
+			}
+			
+			@Override
+			@SuppressWarnings({"unchecked", "rawtypes"})
+			public Spliterator<Entry<String, I>> spliterator() {
+				Table table = CachedItems.this.table;
+				return (Spliterator)new ItemSpliterator<I>(table, 0, table.keys.length);
+			}
+			
+		};
+	}
+	
+	Stream<Item<I>> parallelStream() {
+		Table table = this.table;
+		return StreamSupport.stream(new ItemSpliterator<I>(table, 0, table.keys.length), true);
+	}
+	
+	//Streams the items of the package plus the items whose package is unknown
+	Stream<Item<I>> parallelStream(String packageName, Function<I, String> packageNameRetriever) {
+		Table table = this.table;
+		Map<String, int[]> positionsForPackage = table.getPositionsForPackage(packageNameRetriever);
+		int[] positions = positionsForPackage.get(packageName);
+		int[] positionsOfUnknownPackage = positionsForPackage.get(null);
+		if (positions == null) {
+			positions = positionsOfUnknownPackage;
+		} else if (positionsOfUnknownPackage != null) {
+			positions = Arrays.copyOf(positions, positions.length + positionsOfUnknownPackage.length);
+			System.arraycopy(positionsOfUnknownPackage, 0, positions, positions.length - positionsOfUnknownPackage.length, positionsOfUnknownPackage.length);
+		}
+		if (positions == null) {
+			return Stream.empty();
+		}
+		return Arrays.stream(positions).parallel().mapToObj(position -> new Item<>(table, position));
+	}
+	
+	@Override
+	public void clear() {
+		table = Table.EMPTY;
+	}
+	
+	private static class Table {
+		private static final Table EMPTY = new Table(new HashMap<>());
+		
+		private final String[] keys;
+		private final Object[] items;
+		private final FileSystemItem[] fileSystemItems;
+		//Each slot contains the position of an entry plus one, zero marks an empty slot
+		private final int[] slots;
+		//The positions of the items grouped by package: it is built at the first search by package
+		private volatile Map<String, int[]> positionsForPackage;
+		
+		private Table(Map<String, ?> source) {
+			List<Entry<String, ?>> entries = new ArrayList<>(source.entrySet());
+			int size = entries.size();
+			keys = new String[size];
+			items = new Object[size];
+			fileSystemItems = new FileSystemItem[size];
+			int slotsCount = 2;
+			while (slotsCount < size * 2) {
+				slotsCount <<= 1;
+			}
+			slots = new int[slotsCount];
+			for (int position = 0; position < size; position++) {
+				Entry<String, ?> entry = entries.get(position);
+				keys[position] = entry.getKey();
+				items[position] = entry.getValue();
+				int slot = slotOf(entry.getKey());
+				while (slots[slot] != 0) {
+					slot = (slot + 1) & (slots.length - 1);
+				}
+				slots[slot] = position + 1;
+			}
+		}
+		
+		private int slotOf(Object key) {
+			int hashCode = key.hashCode();
+			return (hashCode ^ (hashCode >>> 16)) & (slots.length - 1);
+		}
+		
+		private int positionOf(Object key) {
+			if (key == null) {
+				return -1;
+			}
+			int slot = slotOf(key);
+			int position;
+			while ((position = slots[slot]) != 0) {
+				if (keys[position - 1].equals(key)) {
+					return position - 1;
+				}
+				slot = (slot + 1) & (slots.length - 1);
+			}
+			return -1;
+		}
+		
+		@SuppressWarnings("unchecked")
+		private <I> Map<String, int[]> getPositionsForPackage(Function<I, String> packageNameRetriever) {
+			Map<String, int[]> positionsForPackage = this.positionsForPackage;
+			if (positionsForPackage == null) {
+				Map<String, List<Integer>> positionListsForPackage = new HashMap<>();
+				for (int position = 0; position < items.length; position++) {
+					positionListsForPackage.computeIfAbsent(
+						packageNameRetriever.apply((I)items[position]), packageName -> new ArrayList<>()
+					).add(position);
+				}
+				positionsForPackage = new HashMap<>();
+				for (Entry<String, List<Integer>> positionListForPackage : positionListsForPackage.entrySet()) {
+					positionsForPackage.put(
+						positionListForPackage.getKey(),
+						positionListForPackage.getValue().stream().mapToInt(Integer::intValue).toArray()
+					);
+				}
+				this.positionsForPackage = positionsForPackage;
+			}
+			return positionsForPackage;
+		}
+		
+		private FileSystemItem getFileSystemItem(int position) {
+			FileSystemItem fileSystemItem = fileSystemItems[position];
+			if (fileSystemItem == null) {
+				fileSystemItems[position] = fileSystemItem = FileSystemItem.ofPath(keys[position]);
+			}
+			return fileSystemItem;
+		}
+	}
+	
+	static class Item<I> implements Map.Entry<String, I> {
+		private final Table table;
+		private final int position;
+		
+		private Item(Table table, int position) {
+			this.table = table;
+			this.position = position;
+		}
+		
+		@Override
+		public String getKey() {
+			return table.keys[position];
+		}
+		
+		@Override
+		@SuppressWarnings("unchecked")
+		public I getValue() {
+			return (I)table.items[position];
+		}
+		
+		//The file system item of the key is resolved only once so that the cached searches
+		//don't need to retrieve it from the FileSystemItem cache every time
+		FileSystemItem getFileSystemItem() {
+			return table.getFileSystemItem(position);
+		}
+		
+		@Override
+		public I setValue(I value) {
+			throw new UnsupportedOperationException();
+		}
+		
+		@Override
+		public boolean equals(Object object) {
+			if (!(object instanceof Map.Entry)) {
+				return false;
+			}
+			Map.Entry<?, ?> entry = (Map.Entry<?, ?>)object;
+			return Objects.equals(getKey(), entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+		}
+		
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+		}
+		
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+	
+	private static class ItemSpliterator<I> implements Spliterator<Item<I>> {
+		private final Table table;
+		private int position;
+		private final int end;
+		
+		private ItemSpliterator(Table table, int position, int end) {
+			this.table = table;
+			this.position = position;
+			this.end = end;
+		}
+		
+		@Override
+		public boolean tryAdvance(Consumer<? super Item<I>> action) {
+			if (position < end) {
+				action.accept(new Item<>(table, position++));
+				return true;
+			}
+			return false;
+		}
+		
+		@Override
+		public void forEachRemaining(Consumer<? super Item<I>> action) {
+			while (position < end) {
+				action.accept(new Item<>(table, position++));
+			}
+		}
+		
+		@Override
+		public Spliterator<Item<I>> trySplit() {
+			int middle = (position + end) >>> 1;
+			if (middle <= position) {
+				return null;
+			}
+			ItemSpliterator<I> prefix = new ItemSpliterator<>(table, position, middle);
+			position = middle;
+			return prefix;
+		}
+		
+		@Override
+		public long estimateSize() {
+			return end - position;
+		}
+		
+		@Override
+		public int characteristics() {
+			return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+		}
+	}
+	
+}
@@ -55,6 +55,8 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 	Map<String, MemberCriteria<?, ?, ?>> memberCriterias;
 	PentaPredicate<ClassCriteria, TestContext, MemberCriteria<?, ?, ?>, String, Class<?>> membersPredicate;
 	private boolean collectMembers;
+	//When not null all the classes that match this criteria belong to this package
+	String packageName;
 	
 	private ClassCriteria() {
 		super();
@@ -117,6 +119,27 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 		return super.logicOperation((ClassCriteria)leftCriteria, rightCriteria, binaryOperator, targetCriteria);
 	}	
 	
+	@Override
+	public ClassCriteria or() {
+		this.packageName = null;
+		return super.or();
+	}
+	
+	@Override
+	public ClassCriteria and(ClassCriteria criteria) {
+		ClassCriteria newCriteria = super.and(criteria);
+		newCriteria.packageName = this.packageName != null ? this.packageName : criteria.packageName;
+		return newCriteria;
+	}
+	
+	@Override
+	public ClassCriteria or(ClassCriteria criteria) {
+		ClassCriteria newCriteria = super.or(criteria);
+		newCriteria.packageName = this.packageName != null && this.packageName.equals(criteria.packageName) ?
+			this.packageName : null;
+		return newCriteria;
+	}
+	
 	public ClassCriteria packageName(final Predicate<String> predicate) {
 		this.predicate = concat(
 			this.predicate,
@@ -130,6 +153,12 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 		return this;
 	}
 	
+	public ClassCriteria packageName(final String packageName) {
+		if (this.predicate == null) {
+			this.packageName = packageName;
+		}
+		return packageName(packageName::equals);
+	}
 
 	public ClassCriteria className(final Predicate<String> predicate) {
 		this.predicate = concat(
@@ -224,6 +253,7 @@ public class ClassCriteria extends CriteriaWithClassElementsSupplyingSupport<Cla
 			)
 		);
 		copy.collectMembers = this.collectMembers;
+		copy.packageName = this.packageName;
 		return copy;
 	}
 	
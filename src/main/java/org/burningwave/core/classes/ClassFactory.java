@@ -36,11 +36,13 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Throwables
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
@@ -69,6 +71,8 @@ public class ClassFactory implements Component {
 			public static final String CLASS_REPOSITORIES_FOR_DEFAULT_CLASS_LOADER = PathHelper.Configuration.Key.PATHS_PREFIX + "class-factory.default-class-loader.class-repositories";
 			public static final String ADDITIONAL_CLASS_REPOSITORIES_FOR_DEFAULT_CLASS_LOADER = PathHelper.Configuration.Key.PATHS_PREFIX + "class-factory.default-class-loader.additional-class-repositories";
 			public static final String BYTE_CODE_HUNTER_SEARCH_CONFIG_CHECK_FILE_OPTIONS = "class-factory.byte-code-hunter.search-config.check-file-option";
+			public static final String POJO_SUBTYPE_DIRECT_BYTE_CODE_GENERATION_ENABLED = "class-factory.pojo-subtype.direct-byte-code-generation.enabled";
+			public static final String FUNCTIONAL_INTERFACES_DIRECT_BYTE_CODE_GENERATION_ENABLED = "class-factory.functional-interfaces.direct-byte-code-generation.enabled";
 					
 		}
 		
@@ -105,6 +109,9 @@ public class ClassFactory implements Component {
 				Key.BYTE_CODE_HUNTER_SEARCH_CONFIG_CHECK_FILE_OPTIONS,
 				"${" + ClassPathScannerAbst.Configuration.Key.DEFAULT_CHECK_FILE_OPTIONS + "}"
 			);
+			
+			DEFAULT_VALUES.put(Key.POJO_SUBTYPE_DIRECT_BYTE_CODE_GENERATION_ENABLED, "false");
+			DEFAULT_VALUES.put(Key.FUNCTIONAL_INTERFACES_DIRECT_BYTE_CODE_GENERATION_ENABLED, "true");
 		}
 	}
 	
@@ -112,6 +119,7 @@ public class ClassFactory implements Component {
 	private PathHelper pathHelper;
 	private JavaMemoryCompiler javaMemoryCompiler;
 	private PojoSubTypeRetriever pojoSubTypeRetriever;	
+	private FunctionalInterfaceByteCodeGenerator functionalInterfaceByteCodeGenerator;
 	private ClassLoader defaultClassLoader;
 	private ByteCodeHunter byteCodeHunter;
 	private ClassPathHunter classPathHunter;
@@ -120,6 +128,7 @@ public class ClassFactory implements Component {
 	private Supplier<ClassLoader> defaultClassLoaderSupplier;
 	private Collection<ClassRetriever> classRetrievers;
 	private Consumer<ClassLoader> classLoaderResetter;
+	private Map<String, ByteBuffer> byteCodesOfGeneratedClasses;
 	private Properties config;
 	
 	private ClassFactory(
@@ -136,9 +145,11 @@ public class ClassFactory implements Component {
 		this.javaMemoryCompiler = javaMemoryCompiler;
 		this.pathHelper = pathHelper;
 		this.pojoSubTypeRetriever = PojoSubTypeRetriever.createDefault(this);
+		this.functionalInterfaceByteCodeGenerator = FunctionalInterfaceByteCodeGenerator.create();
 		this.defaultClassLoaderOrDefaultClassLoaderSupplier = defaultClassLoaderOrDefaultClassLoaderSupplier;
 		this.classLoaderResetter = classLoaderResetter;
 		this.classRetrievers = new CopyOnWriteArrayList<>();
+		this.byteCodesOfGeneratedClasses = new ConcurrentHashMap<>();
 		this.config = config;
 		listenTo(config);
 	}
@@ -280,6 +291,7 @@ public class ClassFactory implements Component {
 						compileConfigSupplier.get(),
 						useOneShotJavaCompiler
 					);
+					byteCodesOfGeneratedClasses.putAll(compilationResult.getCompiledFiles());
 					logInfo(
 						classesName.size() > 1?	
 							"Classes {} have been succesfully compiled":
@@ -324,7 +336,7 @@ public class ClassFactory implements Component {
 					
 				}
 			}
-			logInfo("Classes {} loaded by classloader {} without building", String.join(", ", classes.keySet()), classLoader);
+			logInfo(() -> "Classes " + String.join(", ", classes.keySet()) + " loaded by classloader " + classLoader + " without building");
 			return new ClassRetriever(this, classLoaderSupplierForClassRetriever) {
 				@Override
 				public Class<?> get(Map<String, ByteBuffer> additionalByteCodes, String className) {
@@ -449,7 +461,8 @@ public class ClassFactory implements Component {
 	public <T> Class<T> loadOrBuildAndDefineFunctionSubType(ClassLoader classLoader, int parametersLength) {
 		return loadOrBuildAndDefineFunctionInterfaceSubType(
 			classLoader, "FunctionFor", "Parameters", parametersLength,
-			(className, paramsL) -> SourceCodeHandler.generateFunction(className, paramsL)
+			(className, paramsL) -> SourceCodeHandler.generateFunction(className, paramsL),
+			(className, paramsL) -> functionalInterfaceByteCodeGenerator.generateFunction(className, paramsL)
 		);
 	}
 	
@@ -460,7 +473,8 @@ public class ClassFactory implements Component {
 	public <T> Class<T> loadOrBuildAndDefineConsumerSubType(ClassLoader classLoader, int parametersLength) {
 		return loadOrBuildAndDefineFunctionInterfaceSubType(
 			classLoader, "ConsumerFor", "Parameters", parametersLength,
-			(className, paramsL) -> SourceCodeHandler.generateConsumer(className, paramsL)
+			(className, paramsL) -> SourceCodeHandler.generateConsumer(className, paramsL),
+			(className, paramsL) -> functionalInterfaceByteCodeGenerator.generateConsumer(className, paramsL)
 		);
 	}
 	
@@ -471,7 +485,8 @@ public class ClassFactory implements Component {
 	public <T> Class<T> loadOrBuildAndDefinePredicateSubType(ClassLoader classLoader, int parametersLength) {
 		return loadOrBuildAndDefineFunctionInterfaceSubType(
 			classLoader, "PredicateFor", "Parameters", parametersLength,
-			(className, paramsL) -> SourceCodeHandler.generatePredicate(className, paramsL)
+			(className, paramsL) -> SourceCodeHandler.generatePredicate(className, paramsL),
+			(className, paramsL) -> functionalInterfaceByteCodeGenerator.generatePredicate(className, paramsL)
 		);
 	}
 	
@@ -480,11 +495,17 @@ public class ClassFactory implements Component {
 		String classNamePrefix, 
 		String classNameSuffix,
 		int parametersLength,
-		BiFunction<String, Integer, UnitSourceGenerator> unitSourceGeneratorSupplier
+		BiFunction<String, Integer, UnitSourceGenerator> unitSourceGeneratorSupplier,
+		BiFunction<String, Integer, ByteBuffer> byteCodeSupplier
 	) {
 		String functionalInterfaceName = classNamePrefix + parametersLength +	classNameSuffix;
 		String packageName = MultiParamsFunction.class.getPackage().getName();
 		String className = packageName + "." + functionalInterfaceName;
+		if (Boolean.valueOf(
+			config.resolveStringValue(Configuration.Key.FUNCTIONAL_INTERFACES_DIRECT_BYTE_CODE_GENERATION_ENABLED, Configuration.DEFAULT_VALUES)
+		)) {
+			return loadOrDefineByByteCode(classLoader, className, () -> byteCodeSupplier.apply(className, parametersLength));
+		}
 		ClassRetriever classRetriever = loadOrBuildAndDefine(
 			LoadOrBuildAndDefineConfig.forUnitSourceGenerator(
 				unitSourceGeneratorSupplier.apply(className, parametersLength)
@@ -502,21 +523,24 @@ public class ClassFactory implements Component {
 	public static class PojoSubTypeRetriever {
 		private ClassFactory classFactory;
 		private PojoSourceGenerator sourceGenerator;
+		private PojoByteCodeGenerator byteCodeGenerator;
 		
 		private PojoSubTypeRetriever(
 			ClassFactory classFactory,
-			PojoSourceGenerator sourceGenerator
+			PojoSourceGenerator sourceGenerator,
+			PojoByteCodeGenerator byteCodeGenerator
 		) {
 			this.classFactory = classFactory;
 			this.sourceGenerator = sourceGenerator;
+			this.byteCodeGenerator = byteCodeGenerator;
 		}
 		
 		public static PojoSubTypeRetriever create(ClassFactory classFactory, PojoSourceGenerator sourceGenerator) {
-			return new PojoSubTypeRetriever(classFactory, sourceGenerator) ;
+			return new PojoSubTypeRetriever(classFactory, sourceGenerator, null) ;
 		}
 
 		public static PojoSubTypeRetriever createDefault(ClassFactory classFactory) {
-			return new PojoSubTypeRetriever(classFactory, PojoSourceGenerator.createDefault());
+			return new PojoSubTypeRetriever(classFactory, PojoSourceGenerator.createDefault(), PojoByteCodeGenerator.createDefault());
 		}
 		
 		public <T> Class<T> getOrBuild(
@@ -532,14 +556,7 @@ public class ClassFactory implements Component {
 			int options, 
 			Class<?>... superClasses
 		) {	
-			ClassRetriever classRetriever = classFactory.loadOrBuildAndDefine(
-				LoadOrBuildAndDefineConfig.forUnitSourceGenerator(
-					sourceGenerator.create(className, options, superClasses)
-				)
-			);
-			Class<T> cls = (Class<T>)classRetriever.get(className);
-			classRetriever.close();
-			return cls;
+			return loadOrBuildAndDefine(null, className, options, superClasses);
 		}
 		
 		public <T> Class<T> loadOrBuildAndDefine(
@@ -548,6 +565,14 @@ public class ClassFactory implements Component {
 			int options, 
 			Class<?>... superClasses
 		) {	
+			if (byteCodeGenerator != null && isDirectByteCodeGenerationEnabled(options)) {
+				Class<T> cls = classFactory.loadOrDefineByByteCode(
+					classLoader, className, () -> byteCodeGenerator.create(className, options, superClasses)
+				);
+				if (cls != null) {
+					return cls;
+				}
+			}
 			ClassRetriever classRetriever = classFactory.loadOrBuildAndDefine(
 				LoadOrBuildAndDefineConfig.forUnitSourceGenerator(
 					sourceGenerator.create(className, options, superClasses)
@@ -557,7 +582,60 @@ public class ClassFactory implements Component {
 			classRetriever.close();
 			return cls;
 		}
-			
+		
+		private boolean isDirectByteCodeGenerationEnabled(int options) {
+			return sourceGenerator.isDirectByteCodeGenerationEnabled(options) || Boolean.valueOf(
+				classFactory.config.resolveStringValue(
+					Configuration.Key.POJO_SUBTYPE_DIRECT_BYTE_CODE_GENERATION_ENABLED, Configuration.DEFAULT_VALUES
+				)
+			);
+		}
+		
+	}
+	
+	<T> Class<T> loadOrDefineByByteCode(
+		ClassLoader classLoader,
+		String className,
+		Supplier<ByteBuffer> byteCodeSupplier
+	) {
+		Object temporaryClient = new Object();
+		ClassLoader targetClassLoader = Optional.ofNullable(classLoader).orElseGet(() ->
+			getDefaultClassLoader(temporaryClient)
+		);
+		try {
+			try {
+				return (Class<T>)targetClassLoader.loadClass(className);
+			} catch (ClassNotFoundException | NoClassDefFoundError exc) {
+				ByteBuffer byteCode = byteCodeSupplier.get();
+				if (byteCode == null) {
+					return null;
+				}
+				Class<T> cls = ClassLoaders.loadOrDefineByByteCode(
+					className, Collections.singletonMap(className, byteCode), targetClassLoader
+				);
+				byteCodesOfGeneratedClasses.put(className, byteCode);
+				logInfo("Class {} has been succesfully generated without compiling", className);
+				return cls;
+			}
+		} catch (Throwable exc) {
+			throw Throwables.toRuntimeException(exc);
+		} finally {
+			if (classLoader == null && targetClassLoader instanceof MemoryClassLoader) {
+				((MemoryClassLoader)targetClassLoader).unregister(temporaryClient, true);
+			}
+		}
+	}
+	
+	Map<String, ByteBuffer> getByteCodesOfGeneratedClasses() {
+		return new HashMap<>(byteCodesOfGeneratedClasses);
+	}
+	
+	void loadByteCodesOfGeneratedClasses(Map<String, ByteBuffer> byteCodes) {
+		byteCodesOfGeneratedClasses.putAll(byteCodes);
+		ClassLoader classLoader = getDefaultClassLoader(this);
+		if (classLoader instanceof MemoryClassLoader) {
+			((MemoryClassLoader)classLoader).addByteCodes(byteCodes);
+		}
 	}
 	
 	boolean register(ClassRetriever classRetriever) {
@@ -603,6 +681,7 @@ public class ClassFactory implements Component {
 		pathHelper = null;
 		javaMemoryCompiler = null;
 		pojoSubTypeRetriever = null;	
+		functionalInterfaceByteCodeGenerator = null;
 		if (defaultClassLoader instanceof MemoryClassLoader) {
 			((MemoryClassLoader)defaultClassLoader).unregister(this, true);
 		}
@@ -614,6 +693,8 @@ public class ClassFactory implements Component {
 		defaultClassLoaderOrDefaultClassLoaderSupplier = null;
 		defaultClassLoaderSupplier = null;
 		classLoaderResetter = null;		
+		byteCodesOfGeneratedClasses.clear();
+		byteCodesOfGeneratedClasses = null;
 		config = null;
 	}
 
@@ -44,6 +44,7 @@ import java.util.stream.Collectors;
 import org.burningwave.core.Criteria;
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.classes.ClassCriteria.TestContext;
+import org.burningwave.core.concurrent.TaskExecutor;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.PathHelper;
 import org.burningwave.core.iterable.Properties;
@@ -93,6 +94,7 @@ public class ClassHunter extends ClassPathScannerWithCachingSupport<Class<?>, Cl
 	ClassHunter(
 		Supplier<ClassHunter> classHunterSupplier,
 		PathHelper pathHelper,
+		TaskExecutor taskExecutor,
 		Object defaultPathScannerClassLoaderOrDefaultPathScannerClassLoaderSupplier,
 		Consumer<ClassLoader> pathScannerClassLoaderResetter,
 		Properties config
@@ -100,6 +102,7 @@ public class ClassHunter extends ClassPathScannerWithCachingSupport<Class<?>, Cl
 		super(
 			classHunterSupplier,
 			pathHelper,
+			taskExecutor,
 			(initContext) -> ClassHunter.SearchContext._create(
 				initContext
 			),
@@ -118,9 +121,22 @@ public class ClassHunter extends ClassPathScannerWithCachingSupport<Class<?>, Cl
 		Object defaultPathScannerClassLoaderOrDefaultClassLoaderSupplier,
 		Consumer<ClassLoader> pathScannerClassLoaderResetter,
 		Properties config
+	) {
+		return create(
+			classHunterSupplier, pathHelper, TaskExecutor.getDefault(), defaultPathScannerClassLoaderOrDefaultClassLoaderSupplier, pathScannerClassLoaderResetter, config
+		);
+	}
+	
+	public static ClassHunter create(
+		Supplier<ClassHunter> classHunterSupplier, 
+		PathHelper pathHelper,
+		TaskExecutor taskExecutor,
+		Object defaultPathScannerClassLoaderOrDefaultClassLoaderSupplier,
+		Consumer<ClassLoader> pathScannerClassLoaderResetter,
+		Properties config
 	) {
 		return new ClassHunter(
-			classHunterSupplier, pathHelper, defaultPathScannerClassLoaderOrDefaultClassLoaderSupplier, pathScannerClassLoaderResetter, config
+			classHunterSupplier, pathHelper, taskExecutor, defaultPathScannerClassLoaderOrDefaultClassLoaderSupplier, pathScannerClassLoaderResetter, config
 		);
 	}
 	
@@ -188,6 +204,13 @@ public class ClassHunter extends ClassPathScannerWithCachingSupport<Class<?>, Cl
 		return super.findBy(searchConfig);
 	}
 	
+	@Override
+	String retrievePackageName(Class<?> cls) {
+		String className = cls.getName();
+		int packageNameEnd = className.lastIndexOf('.');
+		return packageNameEnd != -1 ? className.substring(0, packageNameEnd) : "";
+	}
+	
 	@Override
 	<S extends SearchConfigAbst<S>> ClassCriteria.TestContext testCachedItem(ClassHunter.SearchContext context, String path, String key, Class<?> cls) {
 		return context.test(context.retrieveClass(cls));
@@ -31,7 +31,6 @@ package org.burningwave.core.classes;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
@@ -39,6 +38,7 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.burningwave.core.classes.ClassCriteria.TestContext;
+import org.burningwave.core.concurrent.TaskExecutor;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.PathHelper;
 import org.burningwave.core.iterable.Properties;
@@ -47,11 +47,13 @@ public class ClassPathHunter extends ClassPathScannerWithCachingSupport<Collecti
 	private ClassPathHunter(
 		Supplier<ClassHunter> classHunterSupplier,
 		PathHelper pathHelper,
+		TaskExecutor taskExecutor,
 		Properties config
 	) {
 		super(
 			classHunterSupplier,
 			pathHelper,
+			taskExecutor,
 			(initContext) -> SearchContext._create(initContext),
 			(context) -> new ClassPathHunter.SearchResult(context),
 			config
@@ -63,10 +65,21 @@ public class ClassPathHunter extends ClassPathScannerWithCachingSupport<Collecti
 		Supplier<ClassHunter> classHunterSupplier,
 		PathHelper pathHelper,
 		Properties config
+	) {
+		return create(byteCodeHunterSupplier, classHunterSupplier, pathHelper, TaskExecutor.getDefault(), config);
+	}
+	
+	public static ClassPathHunter create(
+		Supplier<ByteCodeHunter> byteCodeHunterSupplier,
+		Supplier<ClassHunter> classHunterSupplier,
+		PathHelper pathHelper,
+		TaskExecutor taskExecutor,
+		Properties config
 	) {
 		return new ClassPathHunter(
 			classHunterSupplier,
 			pathHelper,
+			taskExecutor,
 			config
 		);
 	}
@@ -114,15 +127,14 @@ public class ClassPathHunter extends ClassPathScannerWithCachingSupport<Collecti
 	void iterateAndTestCachedPaths(
 		SearchContext context,
 		String basePath,
-		Map<String, Collection<Class<?>>> itemsForPath,
+		CachedItems<Collection<Class<?>>> itemsForPath,
 		FileSystemItem.Criteria fileFilter
 	) {
-		for (Entry<String, Collection<Class<?>>> cachedItemAsEntry : itemsForPath.entrySet()) {
-			String absolutePathOfItem = cachedItemAsEntry.getKey();
-			if (FileSystemItem.ofPath(absolutePathOfItem).findFirstInAllChildren(fileFilter) != null) {
+		itemsForPath.parallelStream().forEach(cachedItemAsEntry -> {
+			if (cachedItemAsEntry.getFileSystemItem().findFirstInAllChildren(fileFilter) != null) {
 				context.addItemFound(basePath, cachedItemAsEntry.getKey(), cachedItemAsEntry.getValue());
 			}
-		}
+		});
 	}
 	
 	@Override
@@ -150,23 +162,44 @@ public class ClassPathHunter extends ClassPathScannerWithCachingSupport<Collecti
 		}
 
 		
+		//Every match costs a constant number of lookups regardless of how many classes and class paths have
+		//already been found. The flat map and the maps of the base paths have their own collections: the
+		//ones of a base path are stored in the cache, so they must not receive the classes of other base paths
 		void addItemFound(String basePathAsString, String classPathAsFile, Class<?> testedClass) {
-			Map<String, Collection<Class<?>>> testedClassesForClassPathMap = retrieveCollectionForPath(
-				itemsFoundMap,
-				ConcurrentHashMap::new,
-				basePathAsString
-			);
-			Collection<Class<?>> testedClassesForClassPath = testedClassesForClassPathMap.get(classPathAsFile);
-			if (testedClassesForClassPath == null) {
-				synchronized (testedClassesForClassPathMap) {
-					testedClassesForClassPath = testedClassesForClassPathMap.get(classPathAsFile);
-					if (testedClassesForClassPath == null) {
-						testedClassesForClassPathMap.put(classPathAsFile, testedClassesForClassPath = ConcurrentHashMap.newKeySet());
-					}
-				}
+			getOrCreateCollection(itemsFoundFlatMap, classPathAsFile).add(testedClass);
+			getOrCreateCollection(
+				retrieveCollectionForPath(
+					itemsFoundMap,
+					ConcurrentHashMap::new,
+					basePathAsString
+				),
+				classPathAsFile
+			).add(testedClass);
+		}
+		
+		//The collections coming from the cache are copied
+		@Override
+		void addItemFound(String basePathAsString, String classPathAsFile, Collection<Class<?>> testedClasses) {
+			for (Class<?> testedClass : testedClasses) {
+				addItemFound(basePathAsString, classPathAsFile, testedClass);
+			}
+		}
+		
+		@Override
+		void addAllItemsFound(String basePathAsString, Map<String, Collection<Class<?>>> items) {
+			for (Map.Entry<String, Collection<Class<?>>> classPathAndClasses : items.entrySet()) {
+				getOrCreateCollection(itemsFoundFlatMap, classPathAndClasses.getKey()).addAll(classPathAndClasses.getValue());
+			}
+		}
+		
+		private Collection<Class<?>> getOrCreateCollection(Map<String, Collection<Class<?>>> classesForClassPath, String classPathAsFile) {
+			Collection<Class<?>> classes = classesForClassPath.get(classPathAsFile);
+			if (classes == null) {
+				classes = classesForClassPath.computeIfAbsent(
+					classPathAsFile, classPath -> ConcurrentHashMap.newKeySet()
+				);
 			}
-			testedClassesForClassPath.add(testedClass);
-			itemsFoundFlatMap.putAll(testedClassesForClassPathMap);
+			return classes;
 		}
 		
 		@Override
@@ -29,6 +29,7 @@
 package org.burningwave.core.classes;
 
 
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -41,6 +42,7 @@ import java.util.function.Supplier;
 
 import org.burningwave.core.Component;
 import org.burningwave.core.classes.SearchContext.InitContext;
+import org.burningwave.core.concurrent.TaskExecutor;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.PathHelper;
 import org.burningwave.core.iterable.Properties;
@@ -77,6 +79,7 @@ public abstract class ClassPathScannerAbst<I, C extends SearchContext<I>, R exte
 	Supplier<ClassHunter> classHunterSupplier;
 	ClassHunter classHunter;
 	PathHelper pathHelper;
+	TaskExecutor taskExecutor;
 	Function<InitContext, C> contextSupplier;
 	Function<C, R> resultSupplier;
 	Properties config;
@@ -85,11 +88,13 @@ public abstract class ClassPathScannerAbst<I, C extends SearchContext<I>, R exte
 	ClassPathScannerAbst(
 		Supplier<ClassHunter> classHunterSupplier,
 		PathHelper pathHelper,
+		TaskExecutor taskExecutor,
 		Function<InitContext, C> contextSupplier,
 		Function<C, R> resultSupplier,
 		Properties config
 	) {
 		this.pathHelper = pathHelper;
+		this.taskExecutor = taskExecutor;
 		this.classHunterSupplier = classHunterSupplier;
 		this.contextSupplier = contextSupplier;
 		this.resultSupplier = resultSupplier;
@@ -135,10 +140,17 @@ public abstract class ClassPathScannerAbst<I, C extends SearchContext<I>, R exte
 	void searchInFileSystem(C context) {
 		FileSystemItem.Criteria filter = getFileAndClassTesterAndExecutor(context);
 		context.getSearchConfig().getPaths().parallelStream().forEach(basePath -> {
-			FileSystemItem.ofPath(basePath).refresh().findInAllChildren(filter);
+			scan(context, FileSystemItem.ofPath(basePath).refresh(), filter);
 		});
 	}
 	
+	void scan(C context, FileSystemItem basePath, FileSystemItem.Criteria filter) {
+		basePath.findInAllChildren(filter);
+		if (context.getSearchConfig().isPrefetchFileContentsEnabled()) {
+			context.waitForPrefetchTasks(basePath.getAbsolutePath());
+		}
+	}
+	
 	FileSystemItem.Criteria getFileAndClassTesterAndExecutor(C context) {
 		SearchConfigAbst<?> searchConfig = context.getSearchConfig();
 		if (searchConfig.getScanFileCriteria().hasNoPredicate()) {
@@ -154,17 +166,17 @@ public abstract class ClassPathScannerAbst<I, C extends SearchContext<I>, R exte
 	}
 
 	FileSystemItem.Criteria getFileAndClassTesterAndExecutor(C context, Predicate<FileSystemItem[]> classFilePredicate) {
+		boolean prefetchFileContents = context.getSearchConfig().isPrefetchFileContentsEnabled();
 		return FileSystemItem.Criteria.forAllFileThat(
 			(child, basePath) -> {
 				boolean isClass = false;
 				try {
+					context.increment(SearchStatistics.Counter.FILES_VISITED, 1L);
 					if (isClass = classFilePredicate.test(new FileSystemItem[]{child, basePath})) {
-						JavaClass javaClass = JavaClass.create(child.toByteBuffer());
-						ClassCriteria.TestContext criteriaTestContext = testClassCriteria(context, javaClass);
-						if (criteriaTestContext.getResult()) {
-							addToContext(
-								context, criteriaTestContext, basePath.getAbsolutePath(), child, javaClass
-							);
+						if (prefetchFileContents) {
+							prefetchAndTest(context, child, basePath.getAbsolutePath());
+						} else {
+							test(context, child, basePath.getAbsolutePath(), read(context, child));
 						}
 					}
 				} catch (Throwable exc) {
@@ -175,6 +187,45 @@ public abstract class ClassPathScannerAbst<I, C extends SearchContext<I>, R exte
 		);
 	}
 	
+	//The content is read by the io bound threads while the class is parsed and tested by the cpu bound ones
+	void prefetchAndTest(C context, FileSystemItem child, String basePath) {
+		context.addPrefetchTask(basePath, taskExecutor.supplyIOBoundAsync(
+			() -> read(context, child)
+		).handleAsync((byteCode, exc) -> {
+			if (exc == null) {
+				test(context, child, basePath, byteCode);
+			} else {
+				logError("Could not read " + child.getAbsolutePath(), exc);
+			}
+			return null;
+		}, taskExecutor.getCPUBoundExecutor()));
+	}
+	
+	ByteBuffer read(C context, FileSystemItem child) {
+		long startTime = context.startTiming();
+		ByteBuffer byteCode = child.toByteBuffer();
+		context.stopTiming(SearchStatistics.Timer.READING, startTime);
+		context.increment(SearchStatistics.Counter.BYTES_READ, byteCode.remaining());
+		return byteCode;
+	}
+	
+	void test(C context, FileSystemItem child, String basePath, ByteBuffer byteCode) {
+		try {
+			long startTime = context.startTiming();
+			JavaClass javaClass = JavaClass.create(byteCode);
+			context.stopTiming(SearchStatistics.Timer.PARSING, startTime);
+			context.increment(SearchStatistics.Counter.CLASSES_PARSED, 1L);
+			ClassCriteria.TestContext criteriaTestContext = testClassCriteria(context, javaClass);
+			if (criteriaTestContext.getResult()) {
+				addToContext(
+					context, criteriaTestContext, basePath, child, javaClass
+				);
+			}
+		} catch (Throwable exc) {
+			logError("Could not scan " + child.getAbsolutePath(), exc);
+		}
+	}
+	
 	C createContext(SearchConfigAbst<?> searchConfig) {
 		PathScannerClassLoader defaultPathScannerClassLoader = getClassHunter().getDefaultPathScannerClassLoader(searchConfig);
 		if (searchConfig.useDefaultPathScannerClassLoaderAsParent) {
@@ -182,6 +233,7 @@ public abstract class ClassPathScannerAbst<I, C extends SearchContext<I>, R exte
 		}
 		C context = contextSupplier.apply(
 			InitContext.create(
+				taskExecutor,
 				defaultPathScannerClassLoader,
 				searchConfig.useDefaultPathScannerClassLoader ?
 					defaultPathScannerClassLoader :
@@ -244,5 +296,6 @@ public abstract class ClassPathScannerAbst<I, C extends SearchContext<I>, R exte
 		config = null;
 		closeSearchResults();
 		this.searchResults = null;
+		taskExecutor = null;
 	}
 }
\ No newline at end of file
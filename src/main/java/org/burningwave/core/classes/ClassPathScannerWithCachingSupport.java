@@ -38,10 +38,12 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.burningwave.core.classes.ClassCriteria.TestContext;
 import org.burningwave.core.classes.SearchContext.InitContext;
 import org.burningwave.core.concurrent.Mutex;
+import org.burningwave.core.concurrent.TaskExecutor;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.PathHelper;
 import org.burningwave.core.iterable.Properties;
@@ -92,12 +94,13 @@ public abstract class ClassPathScannerWithCachingSupport<I, C extends SearchCont
 		
 	}
 	
-	Map<String, Map<String, I>> cache;
+	Map<String, CachedItems<I>> cache;
 	Mutex.Manager mutexManager;
 	
 	ClassPathScannerWithCachingSupport(
 		Supplier<ClassHunter> classHunterSupplier,
 		PathHelper pathHelper,
+		TaskExecutor taskExecutor,
 		Function<InitContext, C> contextSupplier,
 		Function<C, R> resultSupplier, 
 		Properties config
@@ -105,6 +108,7 @@ public abstract class ClassPathScannerWithCachingSupport<I, C extends SearchCont
 		super(
 			classHunterSupplier,
 			pathHelper,
+			taskExecutor,
 			contextSupplier,
 			resultSupplier,
 			config
@@ -163,29 +167,29 @@ public abstract class ClassPathScannerWithCachingSupport<I, C extends SearchCont
 				});
 			}
 		}
-		Map<String, I> classesForPath = cache.get(basePath);
+		CachedItems<I> classesForPath = cache.get(basePath);
 		if (classesForPath == null) {
 			if (classCriteriaHasNoPredicate && scanFileCriteriaHasNoPredicate) {
 				synchronized(mutexManager.getMutex(basePath)) {
 					classesForPath = cache.get(basePath);
 					if (classesForPath == null) {
-						currentScannedPath.findInAllChildren(filterAndExecutor);
-						Map<String, I> itemsForPath = new ConcurrentHashMap<>();
+						context.increment(SearchStatistics.Counter.CACHE_MISSES, 1L);
+						scan(context, currentScannedPath, filterAndExecutor);
 						Map<String, I> itemsFound = context.getItemsFound(basePath);
-						if (itemsFound != null) {
-							itemsForPath.putAll(itemsFound);
-						}
-						this.cache.put(basePath, itemsForPath);
+						this.cache.put(basePath, new CachedItems<>(itemsFound != null ? itemsFound : new HashMap<>()));
 						return;
 					}
 				}
+				context.increment(SearchStatistics.Counter.CACHE_HITS, 1L);
 				context.addAllItemsFound(basePath, classesForPath);
 				return;
 			} else {
-				currentScannedPath.findInAllChildren(filterAndExecutor);
+				context.increment(SearchStatistics.Counter.CACHE_MISSES, 1L);
+				scan(context, currentScannedPath, filterAndExecutor);
 				return;
 			}
 		}
+		context.increment(SearchStatistics.Counter.CACHE_HITS, 1L);
 		if (classCriteriaHasNoPredicate && scanFileCriteriaHasNoPredicate) {
 			context.addAllItemsFound(basePath, classesForPath);
 		} else if (scanFileCriteriaHasNoPredicate) {
@@ -200,55 +204,64 @@ public abstract class ClassPathScannerWithCachingSupport<I, C extends SearchCont
 	void iterateAndTestCachedPaths(
 		C context,
 		String basePath,
-		Map<String, I> itemsForPath,
+		CachedItems<I> itemsForPath,
 		FileSystemItem.Criteria fileFilter
 	) {
 		FileSystemItem basePathFSI = FileSystemItem.ofPath(basePath);
-		FileSystemItem[] currentChildPathAndBasePath = new FileSystemItem[]{
-			null,
-			basePathFSI
-		};
 		Predicate<FileSystemItem[]> fileFilterPredicate = fileFilter.getPredicateOrTruePredicateIfPredicateIsNull();
-		for (Entry<String, I> cachedItemAsEntry : itemsForPath.entrySet()) {
-			String absolutePathOfItem = cachedItemAsEntry.getKey();
-			currentChildPathAndBasePath[0] = FileSystemItem.ofPath(absolutePathOfItem);
+		itemsForPath.parallelStream().forEach(cachedItemAsEntry -> {
+			FileSystemItem[] currentChildPathAndBasePath = new FileSystemItem[]{
+				cachedItemAsEntry.getFileSystemItem(),
+				basePathFSI
+			};
 			if (fileFilterPredicate.test(currentChildPathAndBasePath)) {
 				context.addItemFound(basePath, cachedItemAsEntry.getKey(), cachedItemAsEntry.getValue());
 			}
-		}
+		});
 	}
 
 	final <S extends SearchConfigAbst<S>> void iterateAndTestCachedPathsAndItems(
 		C context, 
 		String basePath,
-		Map<String, I>itemsForPath,
+		CachedItems<I> itemsForPath,
 		FileSystemItem.Criteria fileFilter
 	) {
 		FileSystemItem basePathFSI = FileSystemItem.ofPath(basePath);
-		FileSystemItem[] currentChildPathAndBasePath = new FileSystemItem[]{
-			null,
-			basePathFSI
-		};
 		Predicate<FileSystemItem[]> fileFilterPredicate = fileFilter.getPredicateOrTruePredicateIfPredicateIsNull();
-		for (Entry<String, I> cachedItemAsEntry : itemsForPath.entrySet()) {
-			String absolutePathOfItem = cachedItemAsEntry.getKey();
-			currentChildPathAndBasePath[0] = FileSystemItem.ofPath(absolutePathOfItem);
+		streamOfCandidates(context, itemsForPath).forEach(cachedItemAsEntry -> {
+			FileSystemItem[] currentChildPathAndBasePath = new FileSystemItem[]{
+				cachedItemAsEntry.getFileSystemItem(),
+				basePathFSI
+			};
 			ClassCriteria.TestContext testContext;
 			if((testContext = testPathAndCachedItem(
 				context, currentChildPathAndBasePath, cachedItemAsEntry.getValue(), fileFilterPredicate
 			)).getResult()) {
 				addCachedItemToContext(context, testContext, basePath, cachedItemAsEntry);
 			}
-		}
+		});
 	}
 
-	void iterateAndTestCachedItems(C context, String basePath, Map<String, I> itemsForPath) {
-		for (Entry<String, I> cachedItemAsEntry : itemsForPath.entrySet()) {
+	void iterateAndTestCachedItems(C context, String basePath, CachedItems<I> itemsForPath) {
+		streamOfCandidates(context, itemsForPath).forEach(cachedItemAsEntry -> {
 			ClassCriteria.TestContext testContext = testCachedItem(context, basePath, cachedItemAsEntry.getKey(), cachedItemAsEntry.getValue());
 			if(testContext.getResult()) {
 				addCachedItemToContext(context, testContext, basePath, cachedItemAsEntry);
 			}
-		}
+		});
+	}
+	
+	//When the class criteria requires an exact package only the cached items of that package are tested
+	Stream<CachedItems.Item<I>> streamOfCandidates(C context, CachedItems<I> itemsForPath) {
+		String packageName = context.getSearchConfig().getClassCriteria().packageName;
+		return packageName != null ?
+			itemsForPath.parallelStream(packageName, this::retrievePackageName) :
+			itemsForPath.parallelStream();
+	}
+	
+	//Returns null if the package of the item is unknown: such items are always tested
+	String retrievePackageName(I item) {
+		return null;
 	}
 	
 	TestContext testPath(
@@ -282,6 +295,24 @@ public abstract class ClassPathScannerWithCachingSupport<I, C extends SearchCont
 
 	abstract <S extends SearchConfigAbst<S>> ClassCriteria.TestContext testCachedItem(C context, String basePath, String absolutePathOfItem, I item);
 	
+	Map<String, Map<String, I>> getCachedItems() {
+		Map<String, Map<String, I>> cachedItems = new HashMap<>();
+		for (Entry<String, CachedItems<I>> itemsForPath : cache.entrySet()) {
+			cachedItems.put(itemsForPath.getKey(), new HashMap<>(itemsForPath.getValue()));
+		}
+		return cachedItems;
+	}
+	
+	boolean loadInCache(String basePath, Map<String, I> itemsForPath) {
+		synchronized(mutexManager.getMutex(basePath)) {
+			if (cache.get(basePath) == null) {
+				cache.put(basePath, new CachedItems<>(itemsForPath));
+				return true;
+			}
+		}
+		return false;
+	}
+	
 	public void clearCache() {
 		clearCache(false);
 	}
@@ -291,7 +322,7 @@ public abstract class ClassPathScannerWithCachingSupport<I, C extends SearchCont
 		for (String path : pathsToBeRemoved) {
 			synchronized(mutexManager.getMutex(path)) {
 				FileSystemItem.ofPath(path).reset();
-				Map<String, I> items = cache.remove(path);
+				CachedItems<I> items = cache.remove(path);
 				if (items != null) {
 					items.clear();
 				}
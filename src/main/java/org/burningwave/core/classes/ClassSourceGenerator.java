@@ -30,6 +30,7 @@ package org.burningwave.core.classes;
 
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -210,23 +211,12 @@ public class ClassSourceGenerator extends SourceGenerator.Abst {
 		return Optional.ofNullable(annotations).map(annts -> getOrEmpty(annts, "\n") +"\n").orElseGet(() -> null);
 	}
 	
-	private String getFieldsCode() {
-		return Optional.ofNullable(fields).map(flds -> "\t" + getOrEmpty(flds, "\n").replace("\n", "\n\t")).orElseGet(() -> null);
-	}
-	
-	private String getFunctionCode(Collection<FunctionSourceGenerator> functions) {
-		return Optional.ofNullable(functions).map(mths -> "\t" + getOrEmpty(mths, "\n\n").replace("\n", "\n\t")).orElseGet(() -> null);
-	}
-	
-	String getInnerClassesCode() {
-		String innerClassesAsString = null;
-		if (innerClasses != null) {
-			innerClassesAsString = "\t";
-			for (ClassSourceGenerator cls : innerClasses) {
-				innerClassesAsString += (cls.make()).replaceAll("\n(.)", "\n\t$1");
-			}
+	private void appendMembers(Output output, Collection<?> members, String separator) {
+		if (members != null) {
+			output.append("\n\n").indent();
+			append(output, members, separator);
+			output.unindent();
 		}
-		return innerClassesAsString;
 	}
 	
 	Map<String, ClassSourceGenerator> getAllInnerClasses() {
@@ -244,29 +234,32 @@ public class ClassSourceGenerator extends SourceGenerator.Abst {
 	
 	@Override
 	public String make() {
-		String annotations = getAnnotations();
-		String fieldsCode = getFieldsCode();
-		String constructorsCode = getFunctionCode(constructors);
-		String methodsCode = getFunctionCode(methods);
-		String innerClassesCode = getInnerClassesCode();
-		return
-			getOrEmpty(
+		return render();
+	}
+	
+	@Override
+	public void make(Output output) {
+		append(
+			output,
+			Arrays.asList(
 				getOuterCode(),
-				annotations,
+				getAnnotations(),
 				Optional.ofNullable(modifier).map(mod -> Modifier.toString(this.modifier)).orElseGet(() -> null),
 				classType,
 				typeDeclaration,
 				expands,
 				expandedType,
 				concretize,
-				getOrEmpty(concretizedTypes, ", "), 
-				"{",
-				fieldsCode != null? "\n\n" + fieldsCode : null,
-				constructorsCode != null? "\n\n" + constructorsCode : null,
-				methodsCode != null? "\n\n" + methodsCode : null,
-				innerClassesCode != null? "\n\n" + innerClassesCode : null,
-				"\n\n}"
-			);
+				joined(concretizedTypes, ", "),
+				"{"
+			),
+			EMPTY_SPACE
+		);
+		appendMembers(output, fields, "\n");
+		appendMembers(output, constructors, "\n\n");
+		appendMembers(output, methods, "\n\n");
+		appendMembers(output, innerClasses, "\n\n");
+		output.append("\n\n}");
 	}
 
 	String getOuterCode() {
@@ -327,9 +327,9 @@ public class Classes implements Component, MembersRetriever {
 		InputStream inputStream = clsLoader.getResourceAsStream(
 			cls.getName().replace(".", "/") + ".class"
 		);
-		return Streams.toByteBuffer(
-			Objects.requireNonNull(inputStream, "Could not acquire bytecode for class " + cls.getName())
-		);
+		Objects.requireNonNull(inputStream, "Could not acquire bytecode for class " + cls.getName());
+		//For resources stored in archives the available bytes are the uncompressed size of the entry
+		return Streams.toByteBuffer(inputStream, ThrowingSupplier.get(inputStream::available));
 	}
 	
 	public Field[] getDeclaredFields(Class<?> cls)  {
@@ -458,7 +458,7 @@ public class Classes implements Component, MembersRetriever {
 				MethodCriteria.byScanUpTo((cls) -> 
 					cls.getName().equals(ClassLoader.class.getName())
 				).name(
-					"definePackage"::equals
+					"definePackage"
 				).and().parameterTypesAreAssignableFrom(
 					String.class, String.class, String.class, String.class,
 					String.class, String.class, String.class, URL.class
@@ -479,7 +479,7 @@ public class Classes implements Component, MembersRetriever {
 		private MethodHandle findDefineClassMethodAndMakeItAccesible(ClassLoader classLoader) {
 			Method method = Members.findAll(
 				MethodCriteria.byScanUpTo((cls) -> cls.getName().equals(ClassLoader.class.getName())).name(
-					(classLoader instanceof MemoryClassLoader? "_defineClass" : "defineClass")::equals
+					classLoader instanceof MemoryClassLoader? "_defineClass" : "defineClass"
 				).and().parameterTypes(params -> 
 					params.length == 3
 				).and().parameterTypesAreAssignableFrom(
@@ -32,8 +32,17 @@ import static org.burningwave.core.assembler.StaticComponentContainer.ClassLoade
 import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
+import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -50,11 +59,35 @@ public class CodeExecutor implements Component {
 	static final String PROPERTIES_FILE_CODE_EXECUTOR_IMPORTS_KEY_SUFFIX = ".imports";
 	static final String PROPERTIES_FILE_CODE_EXECUTOR_NAME_KEY_SUFFIX = ".name";
 	static final String PROPERTIES_FILE_CODE_EXECUTOR_SIMPLE_NAME_KEY_SUFFIX = ".simple-name";
+	private static final String[] EXECUTOR_KEY_SUFFIXES = {
+		PROPERTIES_FILE_CODE_EXECUTOR_IMPORTS_KEY_SUFFIX,
+		PROPERTIES_FILE_CODE_EXECUTOR_NAME_KEY_SUFFIX,
+		PROPERTIES_FILE_CODE_EXECUTOR_SIMPLE_NAME_KEY_SUFFIX
+	};
+	private static final int MAX_CACHED_PARENT_CLASS_LOADERS = 4;
+	
+	public static class Configuration {
+		
+		public static class Key {
+			
+			public static final String EXECUTORS_CACHE_MAX_SIZE = "code-executor.executors-cache.max-size";
+			
+		}
+		
+		public final static Map<String, Object> DEFAULT_VALUES;
+		
+		static {
+			DEFAULT_VALUES = new HashMap<>();
+			//A value of 0 disables the cache
+			DEFAULT_VALUES.put(Key.EXECUTORS_CACHE_MAX_SIZE, "128");
+		}
+	}
 	
 	private ClassFactory classFactory;
 	private PathHelper pathHelper;
 	private Supplier<ClassFactory> classFactorySupplier;
 	private Properties config;
+	private Map<ClassLoader, ExecutorsCache> executorsCaches;
 	
 	private CodeExecutor(
 		Supplier<ClassFactory> classFactorySupplier,
@@ -64,6 +97,7 @@ public class CodeExecutor implements Component {
 		this.classFactorySupplier = classFactorySupplier;
 		this.pathHelper = pathHelper;
 		this.config = config;
+		this.executorsCaches = new WeakHashMap<>();
 		listenTo(config);
 	}
 		
@@ -89,6 +123,12 @@ public class CodeExecutor implements Component {
 	}
 	
 	public <E extends ExecuteConfig<E>, T> T execute(ExecuteConfig.ForProperties config) {
+		return execute(
+			(E)setUpBody(config)
+		);
+	}
+	
+	private ExecuteConfig.ForProperties setUpBody(ExecuteConfig.ForProperties config) {
 		java.util.Properties properties = config.getProperties();
 		if (properties == null) {
 			if (config.getFilePath() == null) {
@@ -149,11 +189,93 @@ public class CodeExecutor implements Component {
 				"return (T)" + code + ";"
 			);
 		}
-
-		return execute(
-			(E)config
-		);
-	}		
+		return config;
+	}
+	
+	public ExecutorsBatch loadOrBuildAndDefineExecutors(Properties properties) {
+		Collection<ExecuteConfig<?>> configs = new ArrayList<>();
+		for (String propertyName : retrieveExecutablePropertyNames(properties)) {
+			configs.add(ExecuteConfig.forProperties(properties).setPropertyName(propertyName));
+		}
+		return loadOrBuildAndDefineExecutors(configs);
+	}
+	
+	//The executable properties are the ones that have the imports, the name or the simple name of the executor defined
+	private Collection<String> retrieveExecutablePropertyNames(Properties properties) {
+		Collection<String> executablePropertyNames = new TreeSet<>();
+		for (Object key : properties.keySet()) {
+			if (key instanceof String) {
+				String propertyName = (String)key;
+				for (String suffix : EXECUTOR_KEY_SUFFIXES) {
+					if (propertyName.endsWith(suffix)) {
+						String executablePropertyName = propertyName.substring(0, propertyName.length() - suffix.length());
+						if (properties.containsKey(executablePropertyName)) {
+							executablePropertyNames.add(executablePropertyName);
+						}
+						break;
+					}
+				}
+			}
+		}
+		return executablePropertyNames;
+	}
+	
+	public ExecutorsBatch loadOrBuildAndDefineExecutors(Collection<? extends ExecuteConfig<?>> configs) {
+		return loadOrBuildAndDefineExecutors(configs, null);
+	}
+	
+	public ExecutorsBatch loadOrBuildAndDefineExecutors(Collection<? extends ExecuteConfig<?>> configs, ClassLoader parentClassLoader) {
+		Map<String, String> executorNames = new LinkedHashMap<>();
+		Collection<UnitSourceGenerator> unitSourceGenerators = new ArrayList<>();
+		for (ExecuteConfig<?> config : configs) {
+			String key;
+			if (config instanceof ExecuteConfig.ForProperties) {
+				key = ((ExecuteConfig.ForProperties)config).getPropertyName();
+				setUpBody((ExecuteConfig.ForProperties)config);
+			} else {
+				key = config.getExecutorName();
+			}
+			if (executorNames.containsKey(key)) {
+				throw Throwables.toRuntimeException("Could not build executors: the name " + key + " is used by more than one executor");
+			}
+			if (executorNames.containsValue(config.getExecutorName())) {
+				throw Throwables.toRuntimeException("Could not build executors: the class " + config.getExecutorName() + " is used by more than one executor");
+			}
+			executorNames.put(key, config.getExecutorName());
+			unitSourceGenerators.addAll(config.unitSourceGenerators);
+		}
+		ExecutorsBatch executorsBatch = new ExecutorsBatch();
+		Object executeClient = new Object();
+		ClassLoader defaultClassLoader = null;
+		if (parentClassLoader == null) {
+			parentClassLoader = defaultClassLoader = getClassFactory().getDefaultClassLoader(executeClient);
+		}
+		executorsBatch.classLoader = MemoryClassLoader.create(parentClassLoader);
+		executorsBatch.classLoader.register(executorsBatch);
+		if (defaultClassLoader instanceof MemoryClassLoader) {
+			((MemoryClassLoader)defaultClassLoader).unregister(executeClient, true);
+		}
+		//All the executors are compiled in one pass
+		try (ClassFactory.ClassRetriever classRetriever = getClassFactory().loadOrBuildAndDefine(
+			LoadOrBuildAndDefineConfig.forUnitSourceGenerator(
+				unitSourceGenerators
+			).virtualizeClasses(
+				false
+			).modifyCompileConfig(
+				compileConfig -> compileConfig.storeCompiledClasses(false)
+			).useClassLoader(
+				executorsBatch.classLoader
+			)
+		)) {
+			for (Map.Entry<String, String> executorName : executorNames.entrySet()) {
+				Class<? extends Executable> executableClass = (Class<? extends Executable>)classRetriever.get(executorName.getValue());
+				executorsBatch.executors.put(
+					executorName.getKey(), Constructors.<Executable>findInstantiator(executableClass).newInstance()
+				);
+			}
+		}
+		return executorsBatch;
+	}
 	
 	public <E extends ExecuteConfig<E>, T> T execute(BodySourceGenerator body) {
 		return execute((E)ExecuteConfig.forBodySourceGenerator(body));
@@ -170,20 +292,26 @@ public class CodeExecutor implements Component {
 				if (parentClassLoader == null && config.isUseDefaultClassLoaderAsParentIfParentClassLoaderIsNull()) {
 					parentClassLoader = defaultClassLoader = getClassFactory().getDefaultClassLoader(executeClient);
 				}
-				try (MemoryClassLoader memoryClassLoader = 
-					MemoryClassLoader.create(
-						parentClassLoader
-					)
-				) {
-					Class<? extends Executable> executableClass = loadOrBuildAndDefineExecutorSubType(
-						config.useClassLoader(memoryClassLoader)
-					);
-					Executable executor = Constructors.newInstanceDirectOf(executableClass);
-					T retrievedElement = executor.execute(config.getParams());
+				try {
+					int executorsCacheMaxSize = getExecutorsCacheMaxSize();
+					if (executorsCacheMaxSize > 0 && parentClassLoader != null) {
+						return executeWithCachedExecutor(config, parentClassLoader, executorsCacheMaxSize);
+					}
+					try (MemoryClassLoader memoryClassLoader = 
+						MemoryClassLoader.create(
+							parentClassLoader
+						)
+					) {
+						Class<? extends Executable> executableClass = loadOrBuildAndDefineExecutorSubType(
+							config.useClassLoader(memoryClassLoader)
+						);
+						Executable executor = Constructors.<Executable>findInstantiator(executableClass).newInstance();
+						return executor.execute(config.getParams());
+					}
+				} finally {
 					if (defaultClassLoader instanceof MemoryClassLoader) {
 						((MemoryClassLoader)defaultClassLoader).unregister(executeClient, true);
 					}
-					return retrievedElement;
 				}
 			});
 		} else {
@@ -195,23 +323,111 @@ public class CodeExecutor implements Component {
 				if (parentClassLoader == null && config.isUseDefaultClassLoaderAsParentIfParentClassLoaderIsNull()) {
 					parentClassLoader = defaultClassLoader = getClassFactory().getDefaultClassLoader(executeClient);
 				}
-				if (parentClassLoader != null) {
-					parentClassLoaderRestorer = ClassLoaders.setAsParent(config.getClassLoader(), parentClassLoader, false);
+				try {
+					if (parentClassLoader != null) {
+						parentClassLoaderRestorer = ClassLoaders.setAsParent(config.getClassLoader(), parentClassLoader, false);
+					}
+					Class<? extends Executable> executableClass = loadOrBuildAndDefineExecutorSubType(
+						config
+					);
+					Executable executor = Constructors.<Executable>findInstantiator(executableClass).newInstance();
+					return executor.execute(config.getParams());
+				} finally {
+					if (parentClassLoaderRestorer != null) {
+						parentClassLoaderRestorer.apply(true);
+					}
+					if (defaultClassLoader instanceof MemoryClassLoader) {
+						((MemoryClassLoader)defaultClassLoader).unregister(executeClient, true);
+					}
 				}
+			});
+		}
+	}
+	
+	private int getExecutorsCacheMaxSize() {
+		return Integer.valueOf(
+			config.resolveStringValue(Configuration.Key.EXECUTORS_CACHE_MAX_SIZE, Configuration.DEFAULT_VALUES)
+		);
+	}
+	
+	private <E extends ExecuteConfig<E>, T> T executeWithCachedExecutor(E config, ClassLoader parentClassLoader, int maxSize) throws Throwable {
+		String key = config.getExecutorsCacheKey();
+		Object executeClient = new Object();
+		ExecutorsCache executorsCache;
+		Executable executor;
+		synchronized (this) {
+			executorsCache = executorsCaches.get(parentClassLoader);
+			executor = executorsCache != null ? executorsCache.executors.get(key) : null;
+			if (executor == null) {
+				executorsCache = getExecutorsCacheWithFreeSpace(executorsCache, parentClassLoader, maxSize);
+			}
+			//The class loader of a discarded cache is closed only by its last client, so it stays open until
+			//this execution is completed
+			executorsCache.classLoader.register(executeClient);
+		}
+		try {
+			if (executor == null) {
 				Class<? extends Executable> executableClass = loadOrBuildAndDefineExecutorSubType(
-					config
+					config.useClassLoader(executorsCache.classLoader)
 				);
-				Executable executor = Constructors.newInstanceDirectOf(executableClass);
-				T retrievedElement = executor.execute(config.getParams());
-				if (parentClassLoaderRestorer != null) {
-					parentClassLoaderRestorer.apply(true);
-				}
-				if (defaultClassLoader instanceof MemoryClassLoader) {
-					((MemoryClassLoader)defaultClassLoader).unregister(executeClient, true);
+				executor = Constructors.<Executable>findInstantiator(executableClass).newInstance();
+				synchronized (this) {
+					//If the cache has been discarded in the meantime the executor is used only for this execution
+					if (executorsCaches.get(parentClassLoader) == executorsCache) {
+						Executable cachedExecutor = executorsCache.executors.putIfAbsent(key, executor);
+						if (cachedExecutor != null) {
+							executor = cachedExecutor;
+						}
+					}
 				}
-				return retrievedElement;
-			});
+			}
+			return executor.execute(config.getParams());
+		} finally {
+			executorsCache.classLoader.unregister(executeClient, true);
+		}
+	}
+	
+	private ExecutorsCache getExecutorsCacheWithFreeSpace(ExecutorsCache executorsCache, ClassLoader parentClassLoader, int maxSize) {
+		if (executorsCache != null && executorsCache.executors.size() < maxSize) {
+			return executorsCache;
+		}
+		//The classes can't be unloaded one by one so the whole class loader is discarded when the cache is full
+		if (executorsCache != null) {
+			executorsCache.close(this);
+		} else {
+			discardCachesOfReleasedParents();
+			if (executorsCaches.size() >= MAX_CACHED_PARENT_CLASS_LOADERS) {
+				//Discard the oldest cache
+				executorsCaches.entrySet().stream().min(
+					(entryOne, entryTwo) -> Long.compare(entryOne.getValue().creationTime, entryTwo.getValue().creationTime)
+				).ifPresent(oldestCacheEntry -> {
+					oldestCacheEntry.getValue().close(this);
+					executorsCaches.remove(oldestCacheEntry.getKey());
+				});
+			}
+		}
+		executorsCaches.put(parentClassLoader, executorsCache = new ExecutorsCache(this, parentClassLoader));
+		return executorsCache;
+	}
+	
+	//The class loader of a cache is registered as client of its parent, so a parent that has been released by all
+	//the other clients would never be closed if its cache were kept
+	private void discardCachesOfReleasedParents() {
+		Iterator<ExecutorsCache> executorsCacheIterator = executorsCaches.values().iterator();
+		while (executorsCacheIterator.hasNext()) {
+			ExecutorsCache executorsCache = executorsCacheIterator.next();
+			if (executorsCache.isParentReleased()) {
+				executorsCacheIterator.remove();
+				executorsCache.close(this);
+			}
+		}
+	}
+	
+	public synchronized void clearExecutorsCache() {
+		for (ExecutorsCache executorsCache : executorsCaches.values()) {
+			executorsCache.close(this);
 		}
+		executorsCaches.clear();
 	}
 	
 	public <E extends LoadOrBuildAndDefineConfig.ForCodeExecutorAbst<E>, T extends Executable> Class<T> loadOrBuildAndDefineExecutorSubType(
@@ -229,10 +445,73 @@ public class CodeExecutor implements Component {
 	
 	@Override
 	public void close() {
+		clearExecutorsCache();
 		unregister(config);
 		classFactory = null;
 		pathHelper = null;
 		classFactorySupplier = null;
 		config = null;
 	}
+	
+	public static class ExecutorsBatch implements Component {
+		private MemoryClassLoader classLoader;
+		private Map<String, Executable> executors;
+		
+		private ExecutorsBatch() {
+			this.executors = new LinkedHashMap<>();
+		}
+		
+		public Collection<String> getNames() {
+			return executors.keySet();
+		}
+		
+		public Executable get(String name) {
+			return executors.get(name);
+		}
+		
+		public <T> T execute(String name, Object... parameters) {
+			Executable executor = executors.get(name);
+			if (executor == null) {
+				throw Throwables.toRuntimeException("Executor " + name + " not found");
+			}
+			return ThrowingSupplier.get(() -> executor.execute(parameters));
+		}
+		
+		@Override
+		public void close() {
+			executors.clear();
+			classLoader.unregister(this, true);
+			classLoader = null;
+		}
+	}
+	
+	private static class ExecutorsCache {
+		private final MemoryClassLoader classLoader;
+		private final Map<String, Executable> executors;
+		private final long creationTime;
+		
+		ExecutorsCache(Object client, ClassLoader parentClassLoader) {
+			this.creationTime = System.nanoTime();
+			this.classLoader = MemoryClassLoader.create(parentClassLoader);
+			this.classLoader.register(client);
+			this.executors = new HashMap<>();
+		}
+		
+		boolean isParentReleased() {
+			ClassLoader parentClassLoader = classLoader.getParent();
+			if (parentClassLoader instanceof MemoryClassLoader) {
+				MemoryClassLoader parentMemoryClassLoader = (MemoryClassLoader)parentClassLoader;
+				synchronized (parentMemoryClassLoader) {
+					return parentMemoryClassLoader.isClosed ||
+						(parentMemoryClassLoader.clients.size() == 1 && parentMemoryClassLoader.clients.contains(classLoader));
+				}
+			}
+			return false;
+		}
+		
+		void close(Object client) {
+			executors.clear();
+			classLoader.unregister(client, true);
+		}
+	}
 }
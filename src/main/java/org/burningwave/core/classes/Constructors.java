@@ -33,16 +33,21 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.LowLevelObjectsHandler;
 import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
 import java.util.AbstractMap;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.burningwave.core.function.ThrowingSupplier;
@@ -70,28 +75,14 @@ public class Constructors extends ExecutableMemberHelper<Constructor<?>>  {
 		Class<?> targetClass,
 		Object... arguments
 	) {
-		Class<?>[] argsType = Classes.deepRetrieveFrom(arguments);
-		String cacheKey = getCacheKey(targetClass, "equals " + Classes.retrieveSimpleName(targetClass.getName()), argsType);
-		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
-		Map.Entry<java.lang.reflect.Executable, MethodHandle> methodHandleBag = Cache.uniqueKeyForExecutableAndMethodHandle.getOrUploadIfAbsent(
-			targetClassClassLoader, cacheKey, 
-			() -> {
-				Constructor<?> constructor = findFirstAndMakeItAccessible(targetClass, argsType);
-				return new AbstractMap.SimpleEntry<>(
-					constructor,
-					convertToMethodHandle(
-						constructor
-					)
-				);
-			}
-		);
-		return ThrowingSupplier.get(() -> {
-				Constructor<?> ctor = (Constructor<?>) methodHandleBag.getKey();
-				//logInfo("Direct invoking of " + ctor);
-				return (T)methodHandleBag.getValue().invokeWithArguments(
-					getArgumentList(ctor, arguments)
-				);
-			}
+		return (T)findInstantiator(targetClass, Classes.deepRetrieveFrom(arguments)).newInstance(arguments);
+	}
+	
+	public <T> Instantiator<T> findInstantiator(Class<?> targetClass, Class<?>... argumentTypes) {
+		CacheKey cacheKey = getCacheKey("instantiator", null, argumentTypes);
+		return (Instantiator<T>)Cache.uniqueKeyForInstantiators.getOrUploadIfAbsent(
+			targetClass, cacheKey, 
+			() -> new Instantiator<>(this, findFirstAndMakeItAccessible(targetClass, argumentTypes))
 		);
 	}
 
@@ -126,9 +117,8 @@ public class Constructors extends ExecutableMemberHelper<Constructor<?>>  {
 		Class<?> targetClass,
 		Class<?>... arguments
 	) {	
-		String cacheKey = getCacheKey(targetClass, "all constructors with input parameters", arguments);
-		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
-		return Cache.uniqueKeyForConstructors.getOrUploadIfAbsent(targetClassClassLoader, cacheKey, () -> {
+		CacheKey cacheKey = getCacheKey("all constructors with input parameters", null, arguments);
+		return Cache.uniqueKeyForConstructors.getOrUploadIfAbsent(targetClass, cacheKey, () -> {
 			ConstructorCriteria criteria = ConstructorCriteria.create().parameterTypesAreAssignableFrom(arguments);
 			if (arguments != null && arguments.length == 0) {
 				criteria.or().parameter((parameters, idx) -> parameters.length == 1 && parameters[0].isVarArgs());
@@ -146,10 +136,9 @@ public class Constructors extends ExecutableMemberHelper<Constructor<?>>  {
 	public Collection<Constructor<?>> findAllAndMakeThemAccessible(
 		Class<?> targetClass
 	) {
-		String cacheKey = getCacheKey(targetClass, "all constructors");
-		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
+		CacheKey cacheKey = getCacheKey("all constructors", null);
 		Collection<Constructor<?>> members = Cache.uniqueKeyForConstructors.getOrUploadIfAbsent(
-			targetClassClassLoader, cacheKey, () -> {
+			targetClass, cacheKey, () -> {
 				return Collections.unmodifiableCollection(
 					findAllAndApply(
 						ConstructorCriteria.byScanUpTo((lastClassInHierarchy, currentScannedClass) -> {
@@ -182,5 +171,63 @@ public class Constructors extends ExecutableMemberHelper<Constructor<?>>  {
 			throw Throwables.toRuntimeException(exc);
 		}
 	}
+	
+	public static class Instantiator<T> {
+		private final Constructor<?> constructor;
+		//Not null only for the no-argument constructors of the concrete classes
+		private final Supplier<T> supplier;
+		//Adapted to the (Object[])Object type so that it can be invoked with invokeExact
+		private final MethodHandle methodHandle;
+		private final Function<Object[], Object[]> argumentsAdapter;
+		
+		Instantiator(Constructors constructors, Constructor<?> constructor) {
+			this.constructor = constructor;
+			int parametersCount = constructor.getParameterCount();
+			Map.Entry<Lookup, MethodHandle> methodHandleBag = constructors.convertToMethodHandleBag(constructor);
+			this.supplier = parametersCount == 0 && !Modifier.isAbstract(constructor.getDeclaringClass().getModifiers()) ?
+				createSupplier(methodHandleBag) :
+				null;
+			this.methodHandle = methodHandleBag.getValue().asFixedArity().asType(
+				MethodType.genericMethodType(parametersCount)
+			).asSpreader(Object[].class, parametersCount);
+			this.argumentsAdapter = arguments -> constructors.getFixedArityArgumentArray(constructor, arguments);
+		}
+		
+		private Supplier<T> createSupplier(Map.Entry<Lookup, MethodHandle> methodHandleBag) {
+			try {
+				CallSite callSite = LambdaMetafactory.metafactory(
+					methodHandleBag.getKey(),
+					"get",
+					MethodType.methodType(Supplier.class),
+					MethodType.methodType(Object.class),
+					methodHandleBag.getValue(),
+					MethodType.methodType(constructor.getDeclaringClass())
+				);
+				return (Supplier<T>)callSite.getTarget().invokeExact();
+			} catch (Throwable exc) {
+				//The constructor will be invoked through the method handle
+				return null;
+			}
+		}
+		
+		public Constructor<?> getConstructor() {
+			return constructor;
+		}
+		
+		public T newInstance(Object... arguments) {
+			if (supplier != null) {
+				return supplier.get();
+			}
+			if (arguments == null || constructor.isVarArgs()) {
+				arguments = argumentsAdapter.apply(arguments);
+			}
+			try {
+				Object newInstance = methodHandle.invokeExact(arguments);
+				return (T)newInstance;
+			} catch (Throwable exc) {
+				throw Throwables.toRuntimeException(exc);
+			}
+		}
+	}
 
 }
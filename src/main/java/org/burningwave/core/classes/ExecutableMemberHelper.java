@@ -70,6 +70,37 @@ public class ExecutableMemberHelper<E extends Executable> extends MemberHelper<E
 		return argumentList.toArray(new Object[argumentList.size()]);
 	}
 	
+	//Returns exactly one argument for each parameter: the trailing arguments of a varargs member are packed
+	//in the array of the varargs parameter, unless the array has been passed directly
+	Object[] getFixedArityArgumentArray(E member, Object... arguments) {
+		int parametersCount = member.getParameterCount();
+		if (arguments == null) {
+			arguments = new Object[] {null};
+			if (!member.isVarArgs() || parametersCount == 1) {
+				return arguments;
+			}
+		}
+		if (!member.isVarArgs()) {
+			return arguments;
+		}
+		Class<?> varArgsType = member.getParameterTypes()[parametersCount - 1];
+		if (arguments.length == parametersCount && (arguments[parametersCount - 1] == null ||
+			varArgsType.isInstance(arguments[parametersCount - 1])) && parametersCount > 1
+		) {
+			return arguments;
+		}
+		if (arguments.length < parametersCount - 1) {
+			return arguments;
+		}
+		Object varArgs = Array.newInstance(varArgsType.getComponentType(), arguments.length - parametersCount + 1);
+		for (int i = parametersCount - 1; i < arguments.length; i++) {
+			Array.set(varArgs, i - parametersCount + 1, arguments[i]);
+		}
+		Object[] fixedArityArguments = Arrays.copyOf(arguments, parametersCount);
+		fixedArityArguments[parametersCount - 1] = varArgs;
+		return fixedArityArguments;
+	}
+	
 	Class<?>[] retrieveParameterTypes(Executable member, List<Class<?>> argumentsClassesAsList) {
 		Parameter[] memberParameter = member.getParameters();
 		Class<?>[] memberParameterTypes = member.getParameterTypes();
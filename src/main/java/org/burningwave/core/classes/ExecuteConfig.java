@@ -43,9 +43,11 @@ public abstract class ExecuteConfig<C extends ExecuteConfig<C>> extends LoadOrBu
 	boolean useDefaultClassLoaderAsParentIfParentClassLoaderIsNull;
 	List<Object> params;
 	boolean useDefaultClassLoaderAsParentIfParentClassLoaderIsNullHasBeenCalled;
+	String generatedExecutorName;
 	
 	ExecuteConfig(String name, BodySourceGenerator bodySG) {
 		super(name, bodySG);
+		this.generatedExecutorName = name;
 		this.useDefaultClassLoaderAsParentIfParentClassLoaderIsNull = true;
 	}
 	
@@ -90,6 +92,17 @@ public abstract class ExecuteConfig<C extends ExecuteConfig<C>> extends LoadOrBu
 		return (C) super.useClassLoader(classLoader);
 	}
 
+	//Only the body and its types are rendered: the rest of the unit is the same for all the executors except for the
+	//name, that is part of the key only if it has been set explicitly
+	String getExecutorsCacheKey() {
+		String executorName = getExecutorName();
+		StringBuilder key = new StringBuilder(executorName.equals(generatedExecutorName) ? "" : executorName);
+		for (TypeDeclarationSourceGenerator type : body.getTypeDeclarations()) {
+			key.append(';').append(type.getName());
+		}
+		return key.append('\n').append(body.make()).toString();
+	}
+	
 	Object[] getParams() {
 		return params != null ?
 			params.toArray(new Object[params.size()]) : 
@@ -38,9 +38,7 @@ import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.burningwave.core.function.ThrowingRunnable;
 import org.burningwave.core.function.ThrowingSupplier;
@@ -137,14 +135,18 @@ public class Fields extends MemberHelper<Field> {
 		Class<?> targetClass,
 		String fieldName
 	) {	
-		String cacheKey = getCacheKey(targetClass, "equals " + fieldName, (Class<?>[])null);
-		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
+		CacheKey cacheKey = getCacheKey("equals", fieldName, (Class<?>[])null);
 		return Cache.uniqueKeyForFields.getOrUploadIfAbsent(
-			targetClassClassLoader,
+			targetClass,
 			cacheKey, 
 			() -> 
 				Collections.unmodifiableCollection(
-					findAllAndMakeThemAccessible(targetClass).stream().filter(field -> field.getName().equals(fieldName)).collect(Collectors.toCollection(LinkedHashSet::new))
+					findAllAndApply(
+						FieldCriteria.create().name(fieldName),
+						targetClass,
+						(field) -> 
+							field.setAccessible(true)
+					)
 				)
 		);
 	}
@@ -152,10 +154,9 @@ public class Fields extends MemberHelper<Field> {
 	public Collection<Field> findAllAndMakeThemAccessible(
 		Class<?> targetClass
 	) {	
-		String cacheKey = getCacheKey(targetClass, "all fields", (Class<?>[])null);
-		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
+		CacheKey cacheKey = getCacheKey("all fields", null, (Class<?>[])null);
 		return Cache.uniqueKeyForFields.getOrUploadIfAbsent(
-			targetClassClassLoader, 
+			targetClass, 
 			cacheKey, 
 			() -> 
 				Collections.unmodifiableCollection(
@@ -30,6 +30,7 @@ package org.burningwave.core.classes;
 
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Optional;
@@ -175,21 +176,20 @@ public class FunctionSourceGenerator extends SourceGenerator.Abst {
 	}
 
 	private String getParametersCode() {
-		String paramsCode = "(";
+		Output paramsCode = Output.create().append("(");
 		if (parameters != null) {
-			paramsCode += "\n";
+			paramsCode.append("\n").indent();
 			Iterator<VariableSourceGenerator> paramsIterator =  parameters.iterator();
 			while (paramsIterator.hasNext()) {
-				VariableSourceGenerator param = paramsIterator.next();
-				paramsCode += "\t" + param.make().replace("\n", "\n\t");
+				paramsIterator.next().make(paramsCode);
 				if (paramsIterator.hasNext()) {
-					paramsCode += COMMA + "\n";
-				} else {
-					paramsCode += "\n";
+					paramsCode.append(COMMA);
 				}
+				paramsCode.append("\n");
 			}
+			paramsCode.unindent();
 		}
-		return paramsCode + ")";
+		return paramsCode.append(")").toString();
 	}
 	
 	Collection<TypeDeclarationSourceGenerator> getTypeDeclarations() {
@@ -244,7 +244,12 @@ public class FunctionSourceGenerator extends SourceGenerator.Abst {
 	
 	@Override
 	public String make() {
-		return getOrEmpty(
+		return render();
+	}
+	
+	@Override
+	public void make(Output output) {
+		append(output, Arrays.asList(
 			getOuterCode(),
 			getAnnotations(),
 			getModifier(),
@@ -255,6 +260,6 @@ public class FunctionSourceGenerator extends SourceGenerator.Abst {
 			getThrowables(),
 			body,
 			Optional.ofNullable(modifier).map(mod -> Modifier.isAbstract(mod)? ";" : null).orElseGet(() -> null)
-		);
+		), EMPTY_SPACE);
 	}
 }
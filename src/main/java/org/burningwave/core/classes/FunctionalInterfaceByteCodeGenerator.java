@@ -0,0 +1,117 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
+
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+
+import org.burningwave.core.Virtual;
+import org.burningwave.core.function.MultiParamsConsumer;
+import org.burningwave.core.function.MultiParamsFunction;
+import org.burningwave.core.function.MultiParamsPredicate;
+
+class FunctionalInterfaceByteCodeGenerator {
+	private static final String OBJECT_DESCRIPTOR = "Ljava/lang/Object;";
+	
+	private FunctionalInterfaceByteCodeGenerator() {}
+	
+	static FunctionalInterfaceByteCodeGenerator create() {
+		return new FunctionalInterfaceByteCodeGenerator();
+	}
+	
+	ByteBuffer generateFunction(String className, int parametersLength) {
+		return generate(className, parametersLength, MultiParamsFunction.class, "apply", OBJECT_DESCRIPTOR, "TR;", true);
+	}
+	
+	ByteBuffer generateConsumer(String className, int parametersLength) {
+		return generate(className, parametersLength, MultiParamsConsumer.class, "accept", "V", "V", false);
+	}
+	
+	ByteBuffer generatePredicate(String className, int parametersLength) {
+		return generate(className, parametersLength, MultiParamsPredicate.class, "test", "Z", "Z", false);
+	}
+	
+	//Generates the same interface produced by compiling, with classes virtualization enabled, the sources built by SourceCodeHandler
+	private ByteBuffer generate(
+		String className,
+		int parametersLength,
+		Class<?> superInterface,
+		String methodName,
+		String returnTypeDescriptor,
+		String returnTypeSignature,
+		boolean hasReturnTypeVariable
+	) {
+		if (className.contains("$")) {
+			throw Throwables.toRuntimeException(className + " " + superInterface.getSimpleName() + " could not be a inner class");
+		}
+		String internalName = ByteCodeGenerator.getInternalName(className);
+		String superInterfaceInternalName = ByteCodeGenerator.getInternalName(superInterface);
+		StringBuilder classSignature = new StringBuilder();
+		StringBuilder methodDescriptor = new StringBuilder("(");
+		StringBuilder methodSignature = new StringBuilder("(");
+		for (int i = 0; i < parametersLength; i++) {
+			classSignature.append("P").append(i).append(":").append(OBJECT_DESCRIPTOR);
+			methodDescriptor.append(OBJECT_DESCRIPTOR);
+			methodSignature.append("TP").append(i).append(";");
+		}
+		if (hasReturnTypeVariable) {
+			classSignature.append("R:").append(OBJECT_DESCRIPTOR);
+		}
+		if (classSignature.length() > 0) {
+			classSignature.insert(0, "<").append(">");
+		}
+		classSignature.append(OBJECT_DESCRIPTOR).append("L").append(superInterfaceInternalName)
+			.append(hasReturnTypeVariable ? "<TR;>;" : ";").append(ByteCodeGenerator.getDescriptor(Virtual.class));
+		String abstractMethodDescriptor = methodDescriptor.append(")").append(returnTypeDescriptor).toString();
+		ByteCodeGenerator classGenerator = new ByteCodeGenerator(
+			Modifier.PUBLIC | ByteCodeGenerator.ACC_INTERFACE | ByteCodeGenerator.ACC_ABSTRACT,
+			internalName,
+			ByteCodeGenerator.getInternalName(Object.class),
+			superInterfaceInternalName,
+			ByteCodeGenerator.getInternalName(Virtual.class)
+		).setSignature(classSignature.toString());
+		classGenerator.addMethod(
+			Modifier.PUBLIC | ByteCodeGenerator.ACC_ABSTRACT, methodName, abstractMethodDescriptor,
+			methodSignature.append(")").append(returnTypeSignature).toString()
+		);
+		ByteCodeGenerator.Code varArgsMethod = classGenerator.addMethod(
+			Modifier.PUBLIC | ByteCodeGenerator.ACC_VARARGS, methodName,
+			"([" + OBJECT_DESCRIPTOR + ")" + returnTypeDescriptor,
+			hasReturnTypeVariable ? "([" + OBJECT_DESCRIPTOR + ")" + returnTypeSignature : null
+		).loadThis();
+		for (int i = 0; i < parametersLength; i++) {
+			varArgsMethod.load("[", 1).pushInt(i).loadArrayElement();
+		}
+		varArgsMethod.invokeInterface(internalName, methodName, abstractMethodDescriptor).returnValue(returnTypeDescriptor);
+		return classGenerator.toByteCode();
+	}
+	
+}
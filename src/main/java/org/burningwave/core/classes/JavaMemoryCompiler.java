@@ -184,7 +184,7 @@ public class JavaMemoryCompiler implements Component {
 		boolean neededClassesPreventiveSearchEnabled,
 		boolean storeCompiledClasses
 	) {	
-		logInfo("Try to compile: \n\n{}\n",String.join("\n", sources));
+		logInfo(() -> "Try to compile: \n\n" + String.join("\n", sources) + "\n");
 		if (neededClassesPreventiveSearchEnabled) {
 			classPaths = computeClassPaths(classRepositoriesPaths, sources);
 		}
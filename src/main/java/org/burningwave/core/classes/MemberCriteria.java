@@ -28,6 +28,7 @@
  */
 package org.burningwave.core.classes;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.Members;
 
 import java.lang.reflect.Member;
 import java.util.Collection;
@@ -45,7 +46,9 @@ public abstract class MemberCriteria<M extends Member, C extends MemberCriteria<
 	private static Member[] EMPTY_MEMBERS_ARRAY = new Member[]{};
 	TriPredicate<C, Class<?>, Class<?>> scanUpToPredicate;	
 	TriPredicate<C, Class<?>, Class<?>> skipClassPredicate;
-	Predicate<Collection<M>> resultPredicate;	
+	Predicate<Collection<M>> resultPredicate;
+	//When not null all the members that match this criteria have this name
+	String memberName;
 
 	
 	@SuppressWarnings("unchecked")
@@ -99,6 +102,27 @@ public abstract class MemberCriteria<M extends Member, C extends MemberCriteria<
 		return (C)this;
 	}
 	
+	@Override
+	public C or() {
+		this.memberName = null;
+		return super.or();
+	}
+	
+	@Override
+	public C and(C criteria) {
+		C newCriteria = super.and(criteria);
+		newCriteria.memberName = this.memberName != null ? this.memberName : criteria.memberName;
+		return newCriteria;
+	}
+	
+	@Override
+	public C or(C criteria) {
+		C newCriteria = super.or(criteria);
+		newCriteria.memberName = this.memberName != null && this.memberName.equals(criteria.memberName) ?
+			this.memberName : null;
+		return newCriteria;
+	}
+	
 	@SuppressWarnings("unchecked")
 	public C result(Predicate<Collection<M>> resultPredicate) {
 		this.resultPredicate = resultPredicate;
@@ -153,7 +177,14 @@ public abstract class MemberCriteria<M extends Member, C extends MemberCriteria<
 				predicate.test(member.getName())
 		);
 		return (C)this;
-	}	
+	}
+	
+	public C name(final String memberName) {
+		if (this.predicate == null) {
+			this.memberName = memberName;
+		}
+		return name(memberName::equals);
+	}
 	
 	@Override
 	public C createCopy() {
@@ -161,6 +192,7 @@ public abstract class MemberCriteria<M extends Member, C extends MemberCriteria<
 		copy.scanUpToPredicate = this.scanUpToPredicate;
 		copy.skipClassPredicate = this.skipClassPredicate;
 		copy.resultPredicate = this.resultPredicate;
+		copy.memberName = this.memberName;
 		return copy;
 	}
 	
@@ -170,7 +202,9 @@ public abstract class MemberCriteria<M extends Member, C extends MemberCriteria<
 	public BiFunction<Class<?>, Class<?>, M[]> getMembersSupplier() {
 		return (initialClassFrom, currentClass) -> 
 			!(skipClassPredicate != null && skipClassPredicate.test((C)this, initialClassFrom, currentClass)) ?
-				getMembersSupplierFunction().apply(currentClass) : 
+				memberName == null ?
+					getMembersSupplierFunction().apply(currentClass) :
+					Members.findAllDeclaredByName(this, currentClass, memberName) :
 				(M[]) EMPTY_MEMBERS_ARRAY;
 	}
 }
@@ -31,7 +31,9 @@ package org.burningwave.core.classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Members;
 
 import java.lang.reflect.Member;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -70,21 +72,46 @@ abstract class MemberHelper<M extends Member> implements Component {
 		return member;
 	}
 	
-	String getCacheKey(Class<?> targetClass, String groupName, Class<?>... arguments) {
-		if (arguments == null) {
-			arguments = new Class<?>[] {null};
+	CacheKey getCacheKey(String groupName, String memberName, Class<?>... arguments) {
+		return new CacheKey(groupName, memberName, arguments);
+	}
+	
+	//The key doesn't contain the target class because the caches are bound to it
+	static class CacheKey {
+		private final static Class<?>[] NULL_ARGUMENTS = new Class<?>[] {null};
+		
+		private final String groupName;
+		private final String memberName;
+		private final Class<?>[] arguments;
+		private final int hashCode;
+		
+		CacheKey(String groupName, String memberName, Class<?>... arguments) {
+			this.groupName = groupName;
+			this.memberName = memberName;
+			this.arguments = arguments != null ? arguments : NULL_ARGUMENTS;
+			int hashCode = groupName.hashCode();
+			hashCode = 31 * hashCode + (memberName != null ? memberName.hashCode() : 0);
+			this.hashCode = 31 * hashCode + Arrays.hashCode(this.arguments);
+		}
+		
+		@Override
+		public int hashCode() {
+			return hashCode;
 		}
-		String argumentsKey = "";
-		if (arguments != null && arguments.length > 0) {
-			StringBuffer argumentsKeyStringBuffer = new StringBuffer();
-			Stream.of(arguments).forEach(cls ->
-				argumentsKeyStringBuffer.append("/" + Optional.ofNullable(cls).map(Class::getName).orElseGet(() ->"null"))
-			);
-			argumentsKey = argumentsKeyStringBuffer.toString();
+		
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+			if (!(object instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey key = (CacheKey)object;
+			return hashCode == key.hashCode &&
+				groupName.equals(key.groupName) &&
+				Objects.equals(memberName, key.memberName) &&
+				Arrays.equals(arguments, key.arguments);
 		}
-		String cacheKey = "/" + targetClass.getName() + "@" + targetClass.hashCode() +
-			"/" + groupName +
-			argumentsKey;
-		return cacheKey;		
 	}
 }
@@ -32,8 +32,12 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
 
 import java.lang.reflect.Member;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
@@ -43,8 +47,18 @@ import java.util.stream.Stream;
 import org.burningwave.core.Component;
 
 public class Members implements Component {
-
-	private Members() {}
+	private static Member[] EMPTY_MEMBERS_ARRAY = new Member[]{};
+	//For each class the declared members, grouped by criteria type and then by name
+	private final ClassValue<Map<Class<?>, Map<String, Member[]>>> declaredMembersIndex;
+	
+	private Members() {
+		declaredMembersIndex = new ClassValue<Map<Class<?>, Map<String, Member[]>>>() {
+			@Override
+			protected Map<Class<?>, Map<String, Member[]>> computeValue(Class<?> cls) {
+				return new ConcurrentHashMap<>();
+			}
+		};
+	}
 	
 	public static Members create() {
 		return new Members();
@@ -149,4 +163,29 @@ public class Members implements Component {
 				null :
 				findFirst(initialClsFrom, clsFrom.getSuperclass(), clsPredicate, memberSupplier, predicate);
 	}
+	
+	@SuppressWarnings("unchecked")
+	<M extends Member> M[] findAllDeclaredByName(MemberCriteria<M, ?, ?> criteria, Class<?> cls, String memberName) {
+		Map<String, Member[]> declaredMembersByName = declaredMembersIndex.get(cls).computeIfAbsent(
+			criteria.getClass(), criteriaClass -> 
+				indexByName(criteria.getMembersSupplierFunction().apply(cls))
+		);
+		Member[] members = declaredMembersByName.get(memberName);
+		return members != null ? (M[])members : (M[])EMPTY_MEMBERS_ARRAY;
+	}
+	
+	private Map<String, Member[]> indexByName(Member[] members) {
+		Map<String, Member[]> membersByName = new HashMap<>();
+		for (int i = 0; i < members.length; i++) {
+			Member[] membersWithSameName = membersByName.get(members[i].getName());
+			if (membersWithSameName == null) {
+				membersWithSameName = Arrays.copyOfRange(members, i, i + 1);
+			} else {
+				membersWithSameName = Arrays.copyOf(membersWithSameName, membersWithSameName.length + 1);
+				membersWithSameName[membersWithSameName.length - 1] = members[i];
+			}
+			membersByName.put(members[i].getName(), membersWithSameName);
+		}
+		return membersByName;
+	}
 }
@@ -396,11 +396,7 @@ public class MemoryClassLoader extends ClassLoader implements Component {
 		Cache.classLoaderForConstructors.remove(this);
 		Cache.classLoaderForFields.remove(this);
 		Cache.classLoaderForMethods.remove(this);
-		Cache.uniqueKeyForFields.remove(this);
-		Cache.uniqueKeyForConstructors.remove(this);
-		Cache.uniqueKeyForMethods.remove(this);
 		Cache.bindedFunctionalInterfaces.remove(this);
-		Cache.uniqueKeyForExecutableAndMethodHandle.remove(this);
 	}
 	
 	public synchronized boolean register(Object client) {
@@ -44,12 +44,11 @@ import java.lang.reflect.Modifier;
 import java.util.AbstractMap;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.burningwave.core.function.ThrowingSupplier;
 
@@ -108,7 +107,7 @@ public class Methods extends ExecutableMemberHelper<Method> {
 		String methodName,
 		Class<?>... argumentTypes
 	) {	
-		return findAllByNamePredicateAndMakeThemAccessible(targetClass, "equals " + methodName, methodName::equals, argumentTypes);
+		return findAllByNameAndMakeThemAccessible(targetClass, "equals", methodName, () -> MethodCriteria.create().name(methodName), argumentTypes);
 	}
 	
 	public Collection<Method> findAllByMatchedNameAndMakeThemAccessible(
@@ -116,32 +115,26 @@ public class Methods extends ExecutableMemberHelper<Method> {
 		String methodName,
 		Class<?>... argumentTypes
 	) {	
-		return findAllByNamePredicateAndMakeThemAccessible(targetClass, "match " + methodName, methodName::matches, argumentTypes);
+		return findAllByNameAndMakeThemAccessible(targetClass, "match", methodName, () -> MethodCriteria.create().name(methodName::matches), argumentTypes);
 	}
 	
-	private Collection<Method> findAllByNamePredicateAndMakeThemAccessible(
+	private Collection<Method> findAllByNameAndMakeThemAccessible(
 		Class<?> targetClass,
 		String cacheKeyPrefix,
-		Predicate<String> namePredicate,
+		String methodName,
+		Supplier<MethodCriteria> nameCriteriaSupplier,
 		Class<?>... arguments
 	) {	
-		String cacheKey = getCacheKey(targetClass, cacheKeyPrefix, arguments);
-		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
-		return Cache.uniqueKeyForMethods.getOrUploadIfAbsent(targetClassClassLoader, cacheKey, () -> {
-			MethodCriteria criteria = MethodCriteria.create()
-				.name(namePredicate)
+		CacheKey cacheKey = getCacheKey(cacheKeyPrefix, methodName, arguments);
+		return Cache.uniqueKeyForMethods.getOrUploadIfAbsent(targetClass, cacheKey, () -> {
+			MethodCriteria criteria = nameCriteriaSupplier.get()
 				.and().parameterTypesAreAssignableFrom(arguments);			
 			if (arguments != null && arguments.length == 0) {
-				criteria = criteria.or(MethodCriteria.create().name(namePredicate).and().parameter((parameters, idx) -> parameters.length == 1 && parameters[0].isVarArgs()));
+				criteria = criteria.or(nameCriteriaSupplier.get().and().parameter((parameters, idx) -> parameters.length == 1 && parameters[0].isVarArgs()));
 			}
-			MethodCriteria finalCriteria = criteria;
-			return Cache.uniqueKeyForMethods.getOrUploadIfAbsent(targetClassClassLoader, cacheKey, () -> 
-				Collections.unmodifiableCollection(
-					findAllAndMakeThemAccessible(targetClass).stream().filter(
-						finalCriteria.getPredicateOrTruePredicateIfPredicateIsNull()
-					).collect(
-						Collectors.toCollection(LinkedHashSet::new)
-					)
+			return Collections.unmodifiableCollection(
+				findAllAndApply(
+					criteria, targetClass, (member) -> member.setAccessible(true)
 				)
 			);
 		});
@@ -150,10 +143,9 @@ public class Methods extends ExecutableMemberHelper<Method> {
 	public Collection<Method> findAllAndMakeThemAccessible(
 		Class<?> targetClass
 	) {
-		String cacheKey = getCacheKey(targetClass, "all methods");
-		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
+		CacheKey cacheKey = getCacheKey("all methods", null);
 		Collection<Method> members = Cache.uniqueKeyForMethods.getOrUploadIfAbsent(
-			targetClassClassLoader, cacheKey, () -> {
+			targetClass, cacheKey, () -> {
 				return Collections.unmodifiableCollection(
 					findAllAndApply(
 						MethodCriteria.create(), targetClass, (member) -> member.setAccessible(true)
@@ -175,10 +167,9 @@ public class Methods extends ExecutableMemberHelper<Method> {
 	public <T> T invokeDirect(Object target, String methodName, Object... arguments) {
 		Class<?> targetClass = Classes.retrieveFrom(target);
 		Class<?>[] argsType = Classes.deepRetrieveFrom(arguments);
-		String cacheKey = getCacheKey(targetClass, "equals " + methodName, argsType);
-		ClassLoader targetClassClassLoader = Classes.getClassLoader(targetClass);
+		CacheKey cacheKey = getCacheKey("equals", methodName, argsType);
 		Entry<Executable, MethodHandle> methodHandleBag = Cache.uniqueKeyForExecutableAndMethodHandle.getOrUploadIfAbsent(
-			targetClassClassLoader, cacheKey, 
+			targetClass, cacheKey, 
 			() -> {
 				Method method = findFirstAndMakeItAccessible(targetClass, methodName, argsType);
 				return new AbstractMap.SimpleEntry<>(
@@ -201,6 +192,14 @@ public class Methods extends ExecutableMemberHelper<Method> {
 		);
 	}
 	
+	public Invoker findInvoker(Class<?> targetClass, String methodName, Class<?>... argumentTypes) {
+		CacheKey cacheKey = getCacheKey("invoker", methodName, argumentTypes);
+		return Cache.uniqueKeyForMethodInvokers.getOrUploadIfAbsent(
+			targetClass, cacheKey, 
+			() -> new Invoker(this, findFirstAndMakeItAccessible(targetClass, methodName, argumentTypes))
+		);
+	}
+	
 	public MethodHandle convertToMethodHandle(Method method) {
 		return convertToMethodHandleBag(method).getValue();
 	}
@@ -225,4 +224,44 @@ public class Methods extends ExecutableMemberHelper<Method> {
 			throw Throwables.toRuntimeException(exc);
 		}
 	}
+	
+	public static class Invoker {
+		private final Method method;
+		//Adapted to the (Object, Object[])Object type so that it can be invoked with invokeExact
+		private final MethodHandle methodHandle;
+		private final Function<Object[], Object[]> argumentsAdapter;
+		
+		Invoker(Methods methods, Method method) {
+			this.method = method;
+			int parametersCount = method.getParameterCount();
+			boolean isStatic = Modifier.isStatic(method.getModifiers());
+			MethodHandle methodHandle = methods.convertToMethodHandle(method).asFixedArity();
+			methodHandle = methodHandle.asType(
+				MethodType.genericMethodType(isStatic ? parametersCount : parametersCount + 1)
+			).asSpreader(Object[].class, parametersCount);
+			if (isStatic) {
+				methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+			}
+			this.methodHandle = methodHandle;
+			this.argumentsAdapter = method.isVarArgs() ?
+				arguments -> methods.getFixedArityArgumentArray(method, arguments) :
+				null;
+		}
+		
+		public Method getMethod() {
+			return method;
+		}
+		
+		public <T> T invoke(Object target, Object... arguments) {
+			if (argumentsAdapter != null) {
+				arguments = argumentsAdapter.apply(arguments);
+			}
+			try {
+				Object returnValue = methodHandle.invokeExact(target, arguments);
+				return (T)returnValue;
+			} catch (Throwable exc) {
+				throw Throwables.toRuntimeException(exc);
+			}
+		}
+	}
 }
@@ -0,0 +1,159 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
+import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
+import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.burningwave.core.Virtual;
+
+public class PojoByteCodeGenerator {
+	private static final int ACCESS_MODIFIERS = Modifier.PUBLIC | Modifier.PROTECTED | Modifier.PRIVATE;
+	
+	private PojoByteCodeGenerator() {}
+	
+	public static PojoByteCodeGenerator createDefault() {
+		return new PojoByteCodeGenerator();
+	}
+	
+	//Returns null if the requested pojo has a shape that is not supported: in this case the source generation path must be used
+	public ByteBuffer create(String className, int options, Class<?>... superClasses) {
+		if (className.contains("$")) {
+			throw Throwables.toRuntimeException(className + " Pojo could not be a inner class");
+		}
+		String packageName = Classes.retrievePackageName(className);
+		String internalName = ByteCodeGenerator.getInternalName(className);
+		Class<?> superClass = null;
+		Collection<Class<?>> interfaces = new LinkedHashSet<>();
+		for (Class<?> iteratedSuperClass : superClasses) {
+			if (iteratedSuperClass.isInterface()) {
+				interfaces.add(iteratedSuperClass);
+			} else if (superClass == null) {
+				superClass = iteratedSuperClass;
+			} else {
+				throw Throwables.toRuntimeException(className + " Pojo could not extends more than one class");
+			}
+		}
+		String superClassInternalName = ByteCodeGenerator.getInternalName(superClass != null ? superClass : Object.class);
+		//Like the classes compiled by ClassFactory the generated class is virtualized
+		Collection<String> interfacesInternalName = new LinkedHashSet<>();
+		interfaces.forEach(interf -> interfacesInternalName.add(ByteCodeGenerator.getInternalName(interf)));
+		interfacesInternalName.add(ByteCodeGenerator.getInternalName(Virtual.class));
+		ByteCodeGenerator classGenerator = new ByteCodeGenerator(
+			Modifier.PUBLIC | ByteCodeGenerator.ACC_SUPER,
+			internalName,
+			superClassInternalName,
+			interfacesInternalName.toArray(new String[interfacesInternalName.size()])
+		);
+		Collection<Constructor<?>> constructors = null;
+		if (superClass != null) {
+			String superClassPackage = Optional.ofNullable(superClass.getPackage()).map(pckg -> pckg.getName()).orElseGet(() -> "");
+			Predicate<Executable> modifierTester = 
+				Strings.areEquals(packageName, superClassPackage) ?
+					executable ->
+						!Modifier.isPrivate(executable.getModifiers()) :
+					executable ->
+						Modifier.isPublic(executable.getModifiers()) ||
+						Modifier.isProtected(executable.getModifiers());
+			constructors = Classes.getDeclaredConstructors(superClass, constructor -> modifierTester.test(constructor));
+			for (Constructor<?> constructor : constructors) {
+				String descriptor = ByteCodeGenerator.getMethodDescriptor(void.class, constructor.getParameterTypes());
+				classGenerator.addMethod(0, "<init>", descriptor)
+					.loadThis().loadParameters(descriptor, 1)
+					.invokeSpecial(superClassInternalName, "<init>", descriptor)
+					.returnValue("V");
+				if ((options & PojoSourceGenerator.BUILDING_METHODS_CREATION_ENABLED) != 0) {
+					classGenerator.addMethod(
+						Modifier.PUBLIC | Modifier.STATIC, "create",
+						ByteCodeGenerator.getMethodDescriptor("L" + internalName + ";", constructor.getParameterTypes())
+					).newInstance(internalName).duplicate().loadParameters(descriptor, 0)
+					.invokeSpecial(internalName, "<init>", descriptor)
+					.returnValue("L");
+				}
+			}
+		}
+		if (constructors == null || constructors.isEmpty()) {
+			classGenerator.addMethod(Modifier.PUBLIC, "<init>", "()V")
+				.loadThis().invokeSpecial(superClassInternalName, "<init>", "()V")
+				.returnValue("V");
+		}
+		Map<String, String> fieldsDescriptor = new LinkedHashMap<>();
+		Collection<String> methodsSignature = new HashSet<>();
+		for (Class<?> interf : interfaces) {
+			for (Method method : Classes.getDeclaredMethods(interf, method -> 
+				method.getName().startsWith("set") || method.getName().startsWith("get") || method.getName().startsWith("is")
+			)) {
+				String methodName = method.getName();
+				Class<?>[] parameterTypes = method.getParameterTypes();
+				boolean isSetter = methodName.startsWith("set");
+				String prefix = isSetter ? "set" : methodName.startsWith("get") ? "get" : "is";
+				if (Modifier.isStatic(method.getModifiers()) || methodName.length() == prefix.length() ||
+					(isSetter && (parameterTypes.length != 1 || method.getReturnType() != void.class)) ||
+					(!isSetter && (parameterTypes.length != 0 || method.getReturnType() == void.class))
+				) {
+					return null;
+				}
+				String fieldName = Strings.lowerCaseFirstCharacter(methodName.substring(prefix.length()));
+				String fieldDescriptor = ByteCodeGenerator.getDescriptor(isSetter ? parameterTypes[0] : method.getReturnType());
+				if (!fieldDescriptor.equals(fieldsDescriptor.computeIfAbsent(fieldName, key -> fieldDescriptor))) {
+					return null;
+				}
+				String descriptor = ByteCodeGenerator.getMethodDescriptor(method.getReturnType(), parameterTypes);
+				if (!methodsSignature.add(methodName + descriptor)) {
+					continue;
+				}
+				ByteCodeGenerator.Code code = classGenerator.addMethod(method.getModifiers() & ACCESS_MODIFIERS, methodName, descriptor).loadThis();
+				if (isSetter) {
+					code.load(fieldDescriptor, 1).putField(internalName, fieldName, fieldDescriptor).returnValue("V");
+				} else {
+					code.getField(internalName, fieldName, fieldDescriptor).returnValue(fieldDescriptor);
+				}
+			}
+		}
+		for (Map.Entry<String, String> fieldDescriptor : fieldsDescriptor.entrySet()) {
+			classGenerator.addField(Modifier.PRIVATE, fieldDescriptor.getKey(), fieldDescriptor.getValue());
+		}
+		return classGenerator.toByteCode();
+	}
+	
+}
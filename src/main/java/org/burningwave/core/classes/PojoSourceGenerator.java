@@ -53,6 +53,7 @@ public class PojoSourceGenerator {
 	public static int ALL_OPTIONS_DISABLED = 0b00000000;
 	public static int BUILDING_METHODS_CREATION_ENABLED = 0b00000001;
 	public static int USE_OF_FULLY_QUALIFIED_CLASS_NAMES_ENABLED = 0b00000010;
+	public static int DIRECT_BYTE_CODE_GENERATION_ENABLED = 0b00000100;
 	
 	private BiConsumer<Map<String, VariableSourceGenerator>, ClassSourceGenerator> fieldsBuilder;
 	private TriConsumer<FunctionSourceGenerator, Method, Integer> setterMethodsBodyBuilder;
@@ -218,6 +219,10 @@ public class PojoSourceGenerator {
 		return (options & BUILDING_METHODS_CREATION_ENABLED) != 0;
 	}
 	
+	public boolean isDirectByteCodeGenerationEnabled(int options) {
+		return (options & DIRECT_BYTE_CODE_GENERATION_ENABLED) != 0;
+	}
+	
 	TypeDeclarationSourceGenerator createTypeDeclaration(boolean useFullyQualifiedNames,
 			Class<?> cls) {
 		if (useFullyQualifiedNames) {
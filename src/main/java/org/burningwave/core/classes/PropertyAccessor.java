@@ -29,6 +29,7 @@
  */
 package org.burningwave.core.classes;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
 import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
@@ -36,73 +37,180 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Throwables
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.burningwave.core.Component;
 import org.burningwave.core.function.ThrowingBiFunction;
 import org.burningwave.core.function.ThrowingFunction;
+import org.burningwave.core.function.ThrowingTriFunction;
 
 public abstract class PropertyAccessor implements Component {
 	public final static String REG_EXP_FOR_JAVA_PROPERTIES = "([a-zA-Z\\$\\_\\-0-9]*)(\\[*.*)";
 	public final static String REG_EXP_FOR_INDEXES_OF_JAVA_INDEXED_PROPERTIES = "\\[([a-zA-Z0-9]*)\\]";
+	private final static Pattern PATTERN_FOR_JAVA_PROPERTIES = Pattern.compile(REG_EXP_FOR_JAVA_PROPERTIES);
+	private final static Pattern PATTERN_FOR_INDEXES_OF_JAVA_INDEXED_PROPERTIES = Pattern.compile(REG_EXP_FOR_INDEXES_OF_JAVA_INDEXED_PROPERTIES);
+	private final static int COMPILED_PATHS_MAX_SIZE = 1024;
+	private final static int ACCESSORS_FOR_CLASS_MAX_SIZE = 256;
 
 	private List<ThrowingBiFunction<Object, String, Object, Throwable>> propertyRetrievers;
-	private List<ThrowingFunction<Object[], Boolean, Throwable>> propertySetters;
-
+	private List<ThrowingBiFunction<Class<?>, String, ThrowingFunction<Object, Object, Throwable>, Throwable>> propertyReaderResolvers;
+	private List<ThrowingBiFunction<Class<?>, String, ThrowingTriFunction<Object, PathElement, Object, Boolean, Throwable>, Throwable>> propertyWriterResolvers;
+	private Map<String, PathElement[]> compiledPaths;
+	private ClassValue<Map<String, List<ThrowingFunction<Object, Object, Throwable>>>> propertyReaders;
+	private ClassValue<Map<String, List<ThrowingTriFunction<Object, PathElement, Object, Boolean, Throwable>>>> propertyWriters;
 	
 	PropertyAccessor() {
 		this.propertyRetrievers = getPropertyRetrievers();
-		this.propertySetters= getPropertySetters();
+		this.propertyReaderResolvers = getPropertyReaderResolvers();
+		this.propertyWriterResolvers = getPropertyWriterResolvers();
+		this.compiledPaths = createLeastRecentlyUsedCache(COMPILED_PATHS_MAX_SIZE);
+		this.propertyReaders = new ClassValue<Map<String, List<ThrowingFunction<Object, Object, Throwable>>>>() {
+			@Override
+			protected Map<String, List<ThrowingFunction<Object, Object, Throwable>>> computeValue(Class<?> cls) {
+				return createLeastRecentlyUsedCache(ACCESSORS_FOR_CLASS_MAX_SIZE);
+			}
+		};
+		this.propertyWriters = new ClassValue<Map<String, List<ThrowingTriFunction<Object, PathElement, Object, Boolean, Throwable>>>>() {
+			@Override
+			protected Map<String, List<ThrowingTriFunction<Object, PathElement, Object, Boolean, Throwable>>> computeValue(Class<?> cls) {
+				return createLeastRecentlyUsedCache(ACCESSORS_FOR_CLASS_MAX_SIZE);
+			}
+		};
 	}
 	
-	abstract List<ThrowingFunction<Object[], Boolean, Throwable>> getPropertySetters();
+	//The paths and the property names are supplied by the callers and can be generated dynamically: when the
+	//limit is reached the least recently used entry is discarded and, if needed again, resolved on demand
+	private static <K, V> Map<K, V> createLeastRecentlyUsedCache(int maxSize) {
+		return Collections.synchronizedMap(new LinkedHashMap<K, V>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
 
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > maxSize;
+			}
+		});
+	}
+	
 	abstract List<ThrowingBiFunction<Object, String, Object, Throwable>> getPropertyRetrievers();
 	
+	abstract List<ThrowingBiFunction<Class<?>, String, ThrowingFunction<Object, Object, Throwable>, Throwable>> getPropertyReaderResolvers();
+	
+	abstract List<ThrowingBiFunction<Class<?>, String, ThrowingTriFunction<Object, PathElement, Object, Boolean, Throwable>, Throwable>> getPropertyWriterResolvers();
+	
 	@SuppressWarnings("unchecked")
 	public <T> T get(Object obj, String propertyPath) {
-		String[] propertyAddress = propertyPath.split("\\.");
 		Object objToReturn = obj;
-		for (int j = 0; j < propertyAddress.length; j++) {
-			objToReturn = getProperty(j != 0 ? objToReturn : obj,
-					propertyAddress[j]);
+		for (PathElement pathElement : compile(propertyPath)) {
+			objToReturn = getProperty(objToReturn, pathElement);
 		}
 		return (T)objToReturn;
 	}
 	
-	private Object getProperty(Object obj, String property) {
+	PathElement[] compile(String propertyPath) {
+		PathElement[] pathElements = compiledPaths.get(propertyPath);
+		if (pathElements == null) {
+			String[] propertyAddress = propertyPath.split("\\.");
+			pathElements = new PathElement[propertyAddress.length];
+			for (int j = 0; j < propertyAddress.length; j++) {
+				pathElements[j] = new PathElement(propertyAddress[j]);
+			}
+			compiledPaths.put(propertyPath, pathElements);
+		}
+		return pathElements;
+	}
+	
+	private Object getProperty(Object obj, PathElement pathElement) {
+		if (obj == null) {
+			return getPropertyByRetrievers(obj, pathElement);
+		}
+		List<ThrowingFunction<Object, Object, Throwable>> readers = retrievePropertyReaders(Classes.retrieveFrom(obj), pathElement.name);
+		if (readers.isEmpty()) {
+			return getPropertyByRetrievers(obj, pathElement);
+		}
+		Object objToReturn = null;
+		List<Throwable> exceptions = null;
+		for (ThrowingFunction<Object, Object, Throwable> reader : readers) {
+			try {
+				if ((objToReturn = reader.apply(obj)) != null) {
+					break;
+				}
+			} catch (Throwable exc) {
+				if (exceptions == null) {
+					exceptions = new ArrayList<>();
+				}
+				exceptions.add(exc);
+			}
+		}
+		if (exceptions != null) {
+			manageGetPropertyExceptions(exceptions, readers.size());
+		}
+		return retrieveFromIndexedProperty(objToReturn, pathElement.indexes, pathElement.indexes.length);
+	}
+	
+	//Used when the property could not be resolved on the class of the object
+	private Object getPropertyByRetrievers(Object obj, PathElement pathElement) {
 		Object objToReturn = null;
-		Matcher matcher = Pattern.compile(REG_EXP_FOR_JAVA_PROPERTIES).matcher(property);
-		matcher.find();
 		List<Throwable> exceptions = new ArrayList<>();
 		for (ThrowingBiFunction<Object, String, Object, Throwable> retriever : propertyRetrievers) {
 			try {
-				if ((objToReturn = retriever.apply(obj, matcher.group(1))) != null) {
+				if ((objToReturn = retriever.apply(obj, pathElement.name)) != null) {
 					break;
 				}
 			} catch (Throwable exc) {
 				exceptions.add(exc);
 			}
 		}
-		manageGetPropertyExceptions(exceptions);
-		if (!matcher.group(2).isEmpty()) {
-			objToReturn = retrieveFromIndexedProperty(objToReturn, matcher.group(2));
+		manageGetPropertyExceptions(exceptions, propertyRetrievers.size());
+		return retrieveFromIndexedProperty(objToReturn, pathElement.indexes, pathElement.indexes.length);
+	}
+	
+	private List<ThrowingFunction<Object, Object, Throwable>> retrievePropertyReaders(Class<?> cls, String propertyName) {
+		Map<String, List<ThrowingFunction<Object, Object, Throwable>>> readersForClass = propertyReaders.get(cls);
+		List<ThrowingFunction<Object, Object, Throwable>> readers = readersForClass.get(propertyName);
+		if (readers == null) {
+			readers = new ArrayList<>();
+			for (ThrowingBiFunction<Class<?>, String, ThrowingFunction<Object, Object, Throwable>, Throwable> resolver : propertyReaderResolvers) {
+				try {
+					readers.add(resolver.apply(cls, propertyName));
+				} catch (Throwable exc) {
+					//The property is not accessible in this way
+				}
+			}
+			readersForClass.put(propertyName, readers);
 		}
-		return objToReturn;
+		return readers;
+	}
+	
+	private List<ThrowingTriFunction<Object, PathElement, Object, Boolean, Throwable>> retrievePropertyWriters(Class<?> cls, String propertyName) {
+		Map<String, List<ThrowingTriFunction<Object, PathElement, Object, Boolean, Throwable>>> writersForClass = propertyWriters.get(cls);
+		List<ThrowingTriFunction<Object, PathElement, Object, Boolean, Throwable>> writers = writersForClass.get(propertyName);
+		if (writers == null) {
+			writers = new ArrayList<>();
+			for (ThrowingBiFunction<Class<?>, String, ThrowingTriFunction<Object, PathElement, Object, Boolean, Throwable>, Throwable> resolver : propertyWriterResolvers) {
+				try {
+					writers.add(resolver.apply(cls, propertyName));
+				} catch (Throwable exc) {
+					//The property is not accessible in this way
+				}
+			}
+			writersForClass.put(propertyName, writers);
+		}
+		return writers;
 	}
 
-	private void manageGetPropertyExceptions(List<Throwable> exceptions) {
+	private void manageGetPropertyExceptions(List<Throwable> exceptions, int accessorsCount) {
 		if (exceptions.size() > 0) {
 			String message = "";
 			for (Throwable exception : exceptions) {
 				message += exception.getMessage() + "\n";	
 			}
 			message = message.substring(0, message.length() - 1);
-			if (exceptions.size() == propertyRetrievers.size()) {
+			if (exceptions.size() == accessorsCount) {
 				throw Throwables.toRuntimeException(message.toString());
 			} else {
 				//logDebug("Warning: " + message);
@@ -111,50 +219,44 @@ public abstract class PropertyAccessor implements Component {
 	}
 	
 	public void set(Object obj, String propertyPath, Object value) {
-		Object target = 
-			propertyPath.contains(".")?
-				get(obj, propertyPath.substring(0, propertyPath.lastIndexOf("."))) :
-				obj;
-		String targetPropertyName =
-			propertyPath.contains(".")?
-				propertyPath.substring(propertyPath.lastIndexOf(".") + 1, propertyPath.length()) :
-				propertyPath;
-		setProperty(target, targetPropertyName, value);
+		PathElement[] pathElements = compile(propertyPath);
+		Object target = obj;
+		for (int j = 0; j < pathElements.length - 1; j++) {
+			target = getProperty(target, pathElements[j]);
+		}
+		setProperty(target, pathElements[pathElements.length - 1], value);
 	}
 	
-	private void setProperty(Object target, String property,
-			Object value) {
+	private void setProperty(Object target, PathElement pathElement, Object value) {
+		List<ThrowingTriFunction<Object, PathElement, Object, Boolean, Throwable>> writers =
+			retrievePropertyWriters(target.getClass(), pathElement.name);
 		List<Throwable> exceptions = new ArrayList<>();
-		for (ThrowingFunction<Object[], Boolean, Throwable> propertySetter : propertySetters) {
+		for (ThrowingTriFunction<Object, PathElement, Object, Boolean, Throwable> writer : writers) {
 			try {
-				propertySetter.apply(new Object[] {target, property, value});
+				writer.apply(target, pathElement, value);
 				break;
 			} catch (Throwable exc) {
 				exceptions.add(exc);
 			}
 		}
-		manageGetPropertyExceptions(exceptions);
+		if (writers.isEmpty()) {
+			throw Throwables.toRuntimeException("Property " + pathElement.name + " of " + target.getClass() + " is not writable");
+		}
+		manageGetPropertyExceptions(exceptions, writers.size());
 	}
 
-
-	private Object retrieveFromIndexedProperty(Object property, String indexes) {
-		Matcher matcher = Pattern.compile(REG_EXP_FOR_INDEXES_OF_JAVA_INDEXED_PROPERTIES).matcher(indexes);
-		if (matcher.find()) {
-			String index = matcher.group(1);
-			Supplier<Object> propertyRetriever = null;
+	private Object retrieveFromIndexedProperty(Object property, String[] indexes, int indexesCount) {
+		for (int j = 0; j < indexesCount; j++) {
+			String index = indexes[j];
 			if (property.getClass().isArray()) {
-				propertyRetriever = () -> Array.get(property, Integer.valueOf(index));
+				property = Array.get(property, Integer.valueOf(index));
 			} else if (List.class.isAssignableFrom(property.getClass())) {
-				propertyRetriever = () -> ((List<?>)property).get(Integer.valueOf(index));
+				property = ((List<?>)property).get(Integer.valueOf(index));
 			} else if (Map.class.isAssignableFrom(property.getClass())) {
-				propertyRetriever = () -> ((Map<?, ?>)property).get(index);
+				property = ((Map<?, ?>)property).get(index);
 			} else {
 				throw Throwables.toRuntimeException("indexed property " + property + " of type " + property.getClass() + " is not supporterd");
 			}
-			return retrieveFromIndexedProperty(
-					propertyRetriever.get(), 
-				indexes.substring(matcher.end(), indexes.length())
-			);
 		}
 		return property;
 	}
@@ -171,17 +273,21 @@ public abstract class PropertyAccessor implements Component {
 		);
 		return objToReturn;
 	}
+	
+	ThrowingFunction<Object, Object, Throwable> resolvePropertyReaderByField(Class<?> cls, String propertyName) {
+		Field field = Fields.findFirstAndMakeItAccessible(cls, propertyName);
+		return target -> Fields.getDirect(target, field);
+	}
+	
+	ThrowingFunction<Object, Object, Throwable> resolvePropertyReaderByGetterMethod(Class<?> cls, String propertyName) {
+		Methods.Invoker invoker = Methods.findInvoker(cls, Methods.createGetterMethodNameByPropertyName(propertyName));
+		return target -> invoker.invoke(target);
+	}
 
 	@SuppressWarnings("unchecked")
-	private <T> void setInIndexedProperty(Object property, String indexes, Object value) {
-		Matcher matcher = Pattern.compile(REG_EXP_FOR_INDEXES_OF_JAVA_INDEXED_PROPERTIES).matcher(indexes);
-		int lastIndexOf = 0;
-		String index = null;
-		while (matcher.find()) {
-			index = matcher.group(1);
-			lastIndexOf = matcher.start();
-		}
-		Object targetObject = retrieveFromIndexedProperty(property, indexes.substring(0, lastIndexOf));
+	private <T> void setInIndexedProperty(Object property, String[] indexes, Object value) {
+		String index = indexes[indexes.length - 1];
+		Object targetObject = retrieveFromIndexedProperty(property, indexes, indexes.length - 1);
 		if (targetObject.getClass().isArray()) {
 			Array.set(targetObject, Integer.valueOf(index), value);
 		} else if (List.class.isAssignableFrom(targetObject.getClass())) {
@@ -193,32 +299,59 @@ public abstract class PropertyAccessor implements Component {
 		}
 	}
 
-	Boolean setPropertyByField(Object target, String propertyPath, Object value) throws IllegalAccessException {
-		Matcher matcher = Pattern.compile(REG_EXP_FOR_JAVA_PROPERTIES).matcher(propertyPath);
-		matcher.find();
-		Field field = Fields.findOneAndMakeItAccessible(target.getClass(),
-				matcher.group(1));
-		if (matcher.group(2).isEmpty()) {
-			Fields.setDirect(target, field, value);
-		} else {
-			setInIndexedProperty(field.get(target), matcher.group(2), value);
-		}
-		return Boolean.TRUE;
+	ThrowingTriFunction<Object, PathElement, Object, Boolean, Throwable> resolvePropertyWriterByField(Class<?> cls, String propertyName) {
+		Field field = Fields.findOneAndMakeItAccessible(cls, propertyName);
+		return (target, pathElement, value) -> {
+			if (pathElement.indexes.length == 0) {
+				Fields.setDirect(target, field, value);
+			} else {
+				setInIndexedProperty(field.get(target), pathElement.indexes, value);
+			}
+			return Boolean.TRUE;
+		};
 	}
 
-	Boolean setPropertyByMethod(Object target, String propertyPath, Object value) {
-		Matcher matcher = Pattern.compile(REG_EXP_FOR_JAVA_PROPERTIES).matcher(propertyPath);
-		matcher.find();
-		if (matcher.group(2).isEmpty()) {
-			Methods.invokeDirect(
-				target, Methods.createSetterMethodNameByPropertyName(matcher.group(1)), value
-			);
-		} else {
-			setInIndexedProperty(Methods.invokeDirect(
-				target, Methods.createGetterMethodNameByPropertyName(matcher.group(1))
-			), matcher.group(2), value);
+	ThrowingTriFunction<Object, PathElement, Object, Boolean, Throwable> resolvePropertyWriterByMethod(Class<?> cls, String propertyName) {
+		String setterMethodName = Methods.createSetterMethodNameByPropertyName(propertyName);
+		String getterMethodName = Methods.createGetterMethodNameByPropertyName(propertyName);
+		//The setter is resolved at every call because it depends on the type of the value
+		return (target, pathElement, value) -> {
+			if (pathElement.indexes.length == 0) {
+				Methods.invokeDirect(target, setterMethodName, value);
+			} else {
+				setInIndexedProperty(Methods.invokeDirect(target, getterMethodName), pathElement.indexes, value);
+			}
+			return Boolean.TRUE;
+		};
+	}
+	
+	@Override
+	public void close() {
+		compiledPaths.clear();
+	}
+	
+	static class PathElement {
+		private final static String[] NO_INDEXES = new String[0];
+		
+		final String name;
+		final String[] indexes;
+		
+		PathElement(String property) {
+			Matcher matcher = PATTERN_FOR_JAVA_PROPERTIES.matcher(property);
+			matcher.find();
+			this.name = matcher.group(1);
+			String indexes = matcher.group(2);
+			if (!indexes.isEmpty()) {
+				List<String> indexesAsList = new ArrayList<>();
+				Matcher indexesMatcher = PATTERN_FOR_INDEXES_OF_JAVA_INDEXED_PROPERTIES.matcher(indexes);
+				while (indexesMatcher.find()) {
+					indexesAsList.add(indexesMatcher.group(1));
+				}
+				this.indexes = indexesAsList.toArray(new String[indexesAsList.size()]);
+			} else {
+				this.indexes = NO_INDEXES;
+			}
 		}
-		return Boolean.TRUE;
 	}
 	
 	public static class ByFieldOrByMethod extends PropertyAccessor {
@@ -237,12 +370,19 @@ public abstract class PropertyAccessor implements Component {
 			propertyRetrievers.add((object, propertyName) -> retrievePropertyByGetterMethod(object, propertyName));
 			return propertyRetrievers;
 		}
+		
+		List<ThrowingBiFunction<Class<?>, String, ThrowingFunction<Object, Object, Throwable>, Throwable>> getPropertyReaderResolvers() {
+			List<ThrowingBiFunction<Class<?>, String, ThrowingFunction<Object, Object, Throwable>, Throwable>> propertyReaderResolvers = new ArrayList<>();
+			propertyReaderResolvers.add((cls, propertyName) -> resolvePropertyReaderByField(cls, propertyName));
+			propertyReaderResolvers.add((cls, propertyName) -> resolvePropertyReaderByGetterMethod(cls, propertyName));
+			return propertyReaderResolvers;
+		}
 
-		List<ThrowingFunction<Object[], Boolean, Throwable>> getPropertySetters() {
-			List<ThrowingFunction<Object[], Boolean, Throwable>> propertySetters  = new ArrayList<>();
-			propertySetters.add(objects -> setPropertyByField(objects[0], (String)objects[1], objects[2]));
-			propertySetters.add(objects -> setPropertyByMethod(objects[0], (String)objects[1], objects[2]));
-			return propertySetters;
+		List<ThrowingBiFunction<Class<?>, String, ThrowingTriFunction<Object, PathElement, Object, Boolean, Throwable>, Throwable>> getPropertyWriterResolvers() {
+			List<ThrowingBiFunction<Class<?>, String, ThrowingTriFunction<Object, PathElement, Object, Boolean, Throwable>, Throwable>> propertyWriterResolvers  = new ArrayList<>();
+			propertyWriterResolvers.add((cls, propertyName) -> resolvePropertyWriterByField(cls, propertyName));
+			propertyWriterResolvers.add((cls, propertyName) -> resolvePropertyWriterByMethod(cls, propertyName));
+			return propertyWriterResolvers;
 		}		
 	}
 	
@@ -263,12 +403,19 @@ public abstract class PropertyAccessor implements Component {
 			propertyRetrievers.add((object, propertyName) -> retrievePropertyByField(object, propertyName));
 			return propertyRetrievers;
 		}
+		
+		List<ThrowingBiFunction<Class<?>, String, ThrowingFunction<Object, Object, Throwable>, Throwable>> getPropertyReaderResolvers() {
+			List<ThrowingBiFunction<Class<?>, String, ThrowingFunction<Object, Object, Throwable>, Throwable>> propertyReaderResolvers = new ArrayList<>();
+			propertyReaderResolvers.add((cls, propertyName) -> resolvePropertyReaderByGetterMethod(cls, propertyName));
+			propertyReaderResolvers.add((cls, propertyName) -> resolvePropertyReaderByField(cls, propertyName));
+			return propertyReaderResolvers;
+		}
 
-		List<ThrowingFunction<Object[], Boolean, Throwable>> getPropertySetters() {
-			List<ThrowingFunction<Object[], Boolean, Throwable>> propertySetters  = new ArrayList<>();
-			propertySetters.add(objects -> setPropertyByMethod(objects[0], (String)objects[1], objects[2]));
-			propertySetters.add(objects -> setPropertyByField(objects[0], (String)objects[1], objects[2]));
-			return propertySetters;
+		List<ThrowingBiFunction<Class<?>, String, ThrowingTriFunction<Object, PathElement, Object, Boolean, Throwable>, Throwable>> getPropertyWriterResolvers() {
+			List<ThrowingBiFunction<Class<?>, String, ThrowingTriFunction<Object, PathElement, Object, Boolean, Throwable>, Throwable>> propertyWriterResolvers  = new ArrayList<>();
+			propertyWriterResolvers.add((cls, propertyName) -> resolvePropertyWriterByMethod(cls, propertyName));
+			propertyWriterResolvers.add((cls, propertyName) -> resolvePropertyWriterByField(cls, propertyName));
+			return propertyWriterResolvers;
 		}		
 	}
 }
@@ -50,6 +50,8 @@ abstract class SearchConfigAbst<S extends SearchConfigAbst<S>> implements AutoCl
 	boolean useDefaultPathScannerClassLoaderAsParent;
 	boolean waitForSearchEnding;
 	boolean checkForAddedClasses;
+	boolean prefetchFileContents;
+	boolean collectStatistics;
 	
 
 	SearchConfigAbst(Collection<String>... pathsColl) {
@@ -155,6 +157,20 @@ abstract class SearchConfigAbst<S extends SearchConfigAbst<S>> implements AutoCl
 		return this.checkForAddedClasses;
 	}
 	
+	public S prefetchFileContents(boolean flag) {
+		this.prefetchFileContents = flag;
+		return (S)this;
+	}
+	
+	boolean isPrefetchFileContentsEnabled() {
+		return this.prefetchFileContents;
+	}
+	
+	public S collectStatistics(boolean flag) {
+		this.collectStatistics = flag;
+		return (S)this;
+	}
+	
 	abstract S newInstance();
 	
 	public S copyTo(S destConfig) {
@@ -169,6 +185,8 @@ abstract class SearchConfigAbst<S extends SearchConfigAbst<S>> implements AutoCl
 		destConfig.deleteFoundItemsOnClose = this.deleteFoundItemsOnClose;
 		destConfig.waitForSearchEnding = this.waitForSearchEnding;
 		destConfig.checkForAddedClasses = this.checkForAddedClasses;
+		destConfig.prefetchFileContents = this.prefetchFileContents;
+		destConfig.collectStatistics = this.collectStatistics;
 		return destConfig;
 	}
 	
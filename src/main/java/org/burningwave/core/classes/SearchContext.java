@@ -37,16 +37,19 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.burningwave.core.Component;
 import org.burningwave.core.Context;
+import org.burningwave.core.concurrent.TaskExecutor;
 import org.burningwave.core.function.ThrowingSupplier;
 
 public class SearchContext<T> implements Component {
 
 	SearchConfigAbst<?> searchConfig;
+	TaskExecutor taskExecutor;
 	Map<String, T> itemsFoundFlatMap;
 	Map<String, Map<String, T>> itemsFoundMap;
 	PathScannerClassLoader sharedPathScannerClassLoader;
@@ -55,6 +58,8 @@ public class SearchContext<T> implements Component {
 	CompletableFuture<Void> searchTask;
 	Collection<String> pathScannerClassLoaderScannedPaths;
 	Collection<T> itemsFound;
+	Map<String, Collection<CompletableFuture<Void>>> prefetchTasks;
+	SearchStatistics statistics;
 	boolean searchTaskFinished;
 	
 	Collection<String> getSkippedClassNames() {
@@ -68,10 +73,15 @@ public class SearchContext<T> implements Component {
 		this.itemsFoundFlatMap = new ConcurrentHashMap<>();
 		this.itemsFoundMap = new ConcurrentHashMap<>();
 		this.skippedClassNames = ConcurrentHashMap.newKeySet();
+		this.prefetchTasks = new ConcurrentHashMap<>();
 		this.pathScannerClassLoaderScannedPaths = new HashSet<>();
 		this.sharedPathScannerClassLoader = initContext.getSharedPathScannerClassLoader();
 		this.pathScannerClassLoader = initContext.getPathScannerClassLoader();
 		this.searchConfig = initContext.getSearchConfig();
+		this.taskExecutor = initContext.getTaskExecutor();
+		if (searchConfig.collectStatistics) {
+			this.statistics = SearchStatistics.create();
+		}
 		this.pathScannerClassLoader.register(this);
 		this.sharedPathScannerClassLoader.register(this);
 		this.sharedPathScannerClassLoader.unregister(searchConfig, true);
@@ -83,18 +93,47 @@ public class SearchContext<T> implements Component {
 		return new SearchContext<>(initContext);
 	}
 	
+	//The parallel streams of the searcher run in the cpu bound pool of the task executor
 	void executeSearch(Consumer<SearchContext<T>> searcher) {
 		if (searchConfig.waitForSearchEnding) {
-			searcher.accept(this);
-			searchTaskFinished = true;
+			taskExecutor.runAndWait(() -> {
+				search(searcher);
+			});
 		} else {
-			searchTask = CompletableFuture.runAsync(() -> {
-				searcher.accept(this);
-				searchTaskFinished = true;
+			searchTask = taskExecutor.runAsync(() -> {
+				search(searcher);
 			});
 		}
 	}
 	
+	private void search(Consumer<SearchContext<T>> searcher) {
+		long startTime = startTiming();
+		searcher.accept(this);
+		stopTiming(SearchStatistics.Timer.SEARCH, startTime);
+		increment(SearchStatistics.Counter.SEARCHES, 1L);
+		searchTaskFinished = true;
+	}
+	
+	long startTiming() {
+		return statistics != null ? System.nanoTime() : 0L;
+	}
+	
+	void stopTiming(SearchStatistics.Timer timer, long startTime) {
+		if (statistics != null) {
+			statistics.addElapsedTime(timer, System.nanoTime() - startTime);
+		}
+	}
+	
+	void increment(SearchStatistics.Counter counter, long value) {
+		if (statistics != null) {
+			statistics.add(counter, value);
+		}
+	}
+	
+	SearchStatistics getStatistics() {
+		return statistics;
+	}
+	
 	void waitForSearchEnding() {
 		try {
 			searchTask.get();
@@ -113,15 +152,11 @@ public class SearchContext<T> implements Component {
 		}		
 	}
 	
+	//The maps of the base paths are only used to fill the cache after a scan, so the items that come
+	//from the cache are added only to the flat map
 	void addAllItemsFound(String path, Map<String, T> items) {
-		retrieveCollectionForPath(
-			itemsFoundMap,
-			ConcurrentHashMap::new, path
-		).putAll(items);
-		for (Map.Entry<String, T> item : items.entrySet()) {
-			synchronized(itemsFoundFlatMap) {
-				itemsFoundFlatMap.put(item.getKey(), item.getValue());
-			}
+		synchronized(itemsFoundFlatMap) {
+			itemsFoundFlatMap.putAll(items);
 		}
 	}
 	
@@ -146,6 +181,21 @@ public class SearchContext<T> implements Component {
 		return items;
 	}
 	
+	void addPrefetchTask(String path, CompletableFuture<Void> task) {
+		prefetchTasks.computeIfAbsent(path, key -> new ConcurrentLinkedQueue<>()).add(task);
+	}
+	
+	void waitForPrefetchTasks(String path) {
+		Collection<CompletableFuture<Void>> tasks = prefetchTasks.remove(path);
+		if (tasks != null) {
+			try {
+				CompletableFuture.allOf(tasks.toArray(new CompletableFuture[tasks.size()])).get();
+			} catch (Throwable exc) {
+				throw Throwables.toRuntimeException(exc);
+			}
+		}
+	}
+	
 	Collection<String> getPathsToBeScanned() {
 		return searchConfig.getPaths();
 	}
@@ -193,6 +243,7 @@ public class SearchContext<T> implements Component {
 				if (notFoundClassName != null) {
 					if (!skippedClassNames.contains(notFoundClassName)) {
 						if (!isARecursiveCall) {
+							increment(SearchStatistics.Counter.RETRIES, 1L);
 							if (pathScannerClassLoaderScannedPaths.isEmpty()) {
 								synchronized(pathScannerClassLoaderScannedPaths) {
 									if (pathScannerClassLoaderScannedPaths.isEmpty()) {
@@ -207,6 +258,7 @@ public class SearchContext<T> implements Component {
 							return execute(supplier, defaultValueSupplier, classNameSupplier, true);
 						} else {
 							skippedClassNames.add(classNameSupplier.get());
+							increment(SearchStatistics.Counter.CLASSES_SKIPPED, 1L);
 							skippedClassNames.add(notFoundClassName);
 						}
 					} 
@@ -222,29 +274,51 @@ public class SearchContext<T> implements Component {
 	}
 	
 	Class<?> loadClass(String className) {
-		return execute(
-			() -> pathScannerClassLoader.loadClass(className), 
-			() -> null, 
-			() -> className
+		long startTime = startTiming();
+		return classLoaded(
+			execute(
+				() -> pathScannerClassLoader.loadClass(className), 
+				() -> null, 
+				() -> className
+			),
+			startTime
 		);
 	}
 	
 	Class<?> loadClass(Class<?> cls) {
-		return execute(
-			() -> pathScannerClassLoader.loadOrDefineClass(cls), 
-			() -> null, 
-			() -> cls.getName()
+		long startTime = startTiming();
+		return classLoaded(
+			execute(
+				() -> pathScannerClassLoader.loadOrDefineClass(cls), 
+				() -> null, 
+				() -> cls.getName()
+			),
+			startTime
 		);
 	}
 	
 	Class<?> loadClass(JavaClass cls) {
-		return execute(
-			() -> pathScannerClassLoader.loadOrDefineClass(cls), 
-			() -> null, 
-			() -> cls.getName()
+		long startTime = startTiming();
+		return classLoaded(
+			execute(
+				() -> pathScannerClassLoader.loadOrDefineClass(cls), 
+				() -> null, 
+				() -> cls.getName()
+			),
+			startTime
 		);
 	}
 	
+	private Class<?> classLoaded(Class<?> cls, long startTime) {
+		if (statistics != null) {
+			stopTiming(SearchStatistics.Timer.LOADING, startTime);
+			if (cls != null) {
+				statistics.increment(SearchStatistics.Counter.CLASSES_LOADED);
+			}
+		}
+		return cls;
+	}
+	
 	Class<?> retrieveClass(Class<?> cls) {
 		return Classes.isLoadedBy(cls, pathScannerClassLoader) ?
 			cls : 
@@ -252,11 +326,14 @@ public class SearchContext<T> implements Component {
 	}
 	
 	<C extends SearchConfigAbst<C>> ClassCriteria.TestContext test(Class<?> cls) {
-		return (ClassCriteria.TestContext) execute(
+		long startTime = startTiming();
+		ClassCriteria.TestContext testContext = (ClassCriteria.TestContext) execute(
 			() -> searchConfig.getClassCriteria().testWithFalseResultForNullEntityOrTrueResultForNullPredicate(cls), 
 			() -> searchConfig.getClassCriteria().testWithFalseResultForNullEntityOrFalseResultForNullPredicate(null), 
 			() -> cls.getName()
 		);
+		stopTiming(SearchStatistics.Timer.TESTING, startTime);
+		return testContext;
 	}
 	
 	@Override
@@ -279,33 +356,45 @@ public class SearchContext<T> implements Component {
 		sharedPathScannerClassLoader = null;
 		skippedClassNames.clear();
 		skippedClassNames = null;
+		prefetchTasks.clear();
+		prefetchTasks = null;
+		statistics = null;
+		taskExecutor = null;
 	}
 	
 	
 	static class InitContext extends Context {
 		enum Elements {
+			TASK_EXECUTOR,
 			SHARED_PATH_SCANNER_CLASS_LOADER,
 			PATH_SCANNER_CLASS_LOADER,
 			SEARCH_CONFIG;
 		}
 		
 		InitContext(
+			TaskExecutor taskExecutor,
 			PathScannerClassLoader sharedPathMemoryClassLoader, 
 			PathScannerClassLoader pathScannerClassLoader,
 			SearchConfigAbst<?> searchConfig
 		) {
 			super();
+			put(Elements.TASK_EXECUTOR, taskExecutor);
 			put(Elements.SHARED_PATH_SCANNER_CLASS_LOADER, sharedPathMemoryClassLoader);
 			put(Elements.PATH_SCANNER_CLASS_LOADER, pathScannerClassLoader);
 			put(Elements.SEARCH_CONFIG, searchConfig);			
 		}
 		
 		static InitContext create(
+			TaskExecutor taskExecutor,
 			PathScannerClassLoader sharedPathMemoryClassLoader, 
 			PathScannerClassLoader pathScannerClassLoader,
 			SearchConfigAbst<?> searchConfig
 		) {
-			return new InitContext(sharedPathMemoryClassLoader, pathScannerClassLoader, searchConfig);
+			return new InitContext(taskExecutor, sharedPathMemoryClassLoader, pathScannerClassLoader, searchConfig);
+		}
+		
+		TaskExecutor getTaskExecutor() {
+			return get(Elements.TASK_EXECUTOR);
 		}
 		
 		PathScannerClassLoader getSharedPathScannerClassLoader() {
@@ -103,6 +103,10 @@ public class SearchResult<E> implements Component {
 		return (C) context.pathScannerClassLoader;
 	}
 	
+	public SearchStatistics getStatistics() {
+		return context.getStatistics();
+	}
+	
 	public void waitForSearchEnding() {
 		context.waitForSearchEnding();
 	}
@@ -0,0 +1,136 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class SearchStatistics {
+	private final static SearchStatistics GLOBAL = new SearchStatistics(null);
+	
+	public static enum Counter {
+		SEARCHES,
+		FILES_VISITED,
+		BYTES_READ,
+		CLASSES_PARSED,
+		CLASSES_LOADED,
+		CLASSES_SKIPPED,
+		RETRIES,
+		CACHE_HITS,
+		CACHE_MISSES
+	}
+	
+	public static enum Timer {
+		SEARCH,
+		READING,
+		PARSING,
+		LOADING,
+		TESTING
+	}
+	
+	private SearchStatistics parent;
+	private LongAdder[] counters;
+	private LongAdder[] timers;
+	
+	private SearchStatistics(SearchStatistics parent) {
+		this.parent = parent;
+		this.counters = createAdders(Counter.values().length);
+		this.timers = createAdders(Timer.values().length);
+	}
+	
+	static SearchStatistics create() {
+		return new SearchStatistics(GLOBAL);
+	}
+	
+	public static SearchStatistics getGlobal() {
+		return GLOBAL;
+	}
+	
+	private LongAdder[] createAdders(int size) {
+		LongAdder[] adders = new LongAdder[size];
+		for (int i = 0; i < adders.length; i++) {
+			adders[i] = new LongAdder();
+		}
+		return adders;
+	}
+	
+	void increment(Counter counter) {
+		add(counter, 1L);
+	}
+	
+	void add(Counter counter, long value) {
+		counters[counter.ordinal()].add(value);
+		if (parent != null) {
+			parent.add(counter, value);
+		}
+	}
+	
+	void addElapsedTime(Timer timer, long nanos) {
+		timers[timer.ordinal()].add(nanos);
+		if (parent != null) {
+			parent.addElapsedTime(timer, nanos);
+		}
+	}
+	
+	public long get(Counter counter) {
+		return counters[counter.ordinal()].sum();
+	}
+	
+	public long getElapsedTime(Timer timer, TimeUnit unit) {
+		return unit.convert(timers[timer.ordinal()].sum(), TimeUnit.NANOSECONDS);
+	}
+	
+	public Map<String, Long> toMap() {
+		Map<String, Long> values = new LinkedHashMap<>();
+		for (Counter counter : Counter.values()) {
+			values.put(counter.name().toLowerCase().replace("_", "-"), get(counter));
+		}
+		for (Timer timer : Timer.values()) {
+			values.put(timer.name().toLowerCase() + "-time-in-millis", getElapsedTime(timer, TimeUnit.MILLISECONDS));
+		}
+		return values;
+	}
+	
+	public void reset() {
+		for (LongAdder counter : counters) {
+			counter.reset();
+		}
+		for (LongAdder timer : timers) {
+			timer.reset();
+		}
+	}
+	
+	@Override
+	public String toString() {
+		return toMap().toString();
+	}
+	
+}
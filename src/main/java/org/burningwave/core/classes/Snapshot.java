@@ -0,0 +1,331 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.classes;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.ByteBufferDelegate;
+import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggersRepository;
+import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
+import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.burningwave.core.io.PathHelper;
+import org.burningwave.core.iterable.Properties;
+
+
+public class Snapshot {
+	private static final int MAGIC_NUMBER = 0x42575353;
+	private static final int VERSION = 2;
+	
+	private String classPath;
+	private Map<String, String> pathsConfig;
+	private Map<String, Collection<String>> pathGroups;
+	private Map<String, Map<String, long[]>> statesOfBasePaths;
+	private Map<String, Map<String, ByteBuffer>> byteCodeHunterCache;
+	private Map<String, ByteBuffer> byteCodesOfGeneratedClasses;
+	
+	private Snapshot() {
+		pathsConfig = new TreeMap<>();
+		statesOfBasePaths = new HashMap<>();
+		byteCodeHunterCache = new LinkedHashMap<>();
+		byteCodesOfGeneratedClasses = new LinkedHashMap<>();
+	}
+	
+	public static void store(
+		String absolutePath,
+		Properties config,
+		PathHelper pathHelper,
+		ByteCodeHunter byteCodeHunter,
+		ClassFactory classFactory
+	) {
+		File file = new File(absolutePath);
+		File temporaryFile = new File(absolutePath + ".tmp");
+		if (file.getParentFile() != null) {
+			file.getParentFile().mkdirs();
+		}
+		try (DataOutputStream output = new DataOutputStream(
+			new BufferedOutputStream(Files.newOutputStream(temporaryFile.toPath()))
+		)) {
+			output.writeInt(MAGIC_NUMBER);
+			output.writeInt(VERSION);
+			writeString(output, System.getProperty("java.class.path", ""));
+			Map<String, String> pathsConfig = getPathsConfig(config);
+			output.writeInt(pathsConfig.size());
+			for (Map.Entry<String, String> entry : pathsConfig.entrySet()) {
+				writeString(output, entry.getKey());
+				writeString(output, entry.getValue());
+			}
+			if (pathHelper != null) {
+				Map<String, Collection<String>> pathGroups = pathHelper.getPathGroups();
+				output.writeInt(pathGroups.size());
+				for (Map.Entry<String, Collection<String>> pathGroup : pathGroups.entrySet()) {
+					writeString(output, pathGroup.getKey());
+					output.writeInt(pathGroup.getValue().size());
+					for (String path : pathGroup.getValue()) {
+						writeString(output, path);
+					}
+				}
+			} else {
+				output.writeInt(-1);
+			}
+			Map<String, Map<String, JavaClass>> cachedItems = byteCodeHunter != null ?
+				byteCodeHunter.getCachedItems() : new HashMap<>();
+			Map<String, Map<String, long[]>> statesOfBasePaths = new HashMap<>();
+			for (String basePath : cachedItems.keySet()) {
+				statesOfBasePaths.put(basePath, getState(basePath));
+			}
+			//Only the base paths whose state can be checked at restore time are stored
+			cachedItems.keySet().removeIf(basePath -> statesOfBasePaths.get(basePath).isEmpty());
+			output.writeInt(cachedItems.size());
+			for (Map.Entry<String, Map<String, JavaClass>> itemsForPath : cachedItems.entrySet()) {
+				writeString(output, itemsForPath.getKey());
+				Map<String, long[]> state = statesOfBasePaths.get(itemsForPath.getKey());
+				output.writeInt(state.size());
+				for (Map.Entry<String, long[]> fileState : state.entrySet()) {
+					writeString(output, fileState.getKey());
+					output.writeLong(fileState.getValue()[0]);
+					output.writeLong(fileState.getValue()[1]);
+				}
+				output.writeInt(itemsForPath.getValue().size());
+				for (Map.Entry<String, JavaClass> item : itemsForPath.getValue().entrySet()) {
+					writeString(output, item.getKey());
+					writeByteCode(output, item.getValue().getByteCode());
+				}
+			}
+			Map<String, ByteBuffer> byteCodesOfGeneratedClasses = classFactory != null ?
+				classFactory.getByteCodesOfGeneratedClasses() : new HashMap<>();
+			output.writeInt(byteCodesOfGeneratedClasses.size());
+			for (Map.Entry<String, ByteBuffer> byteCode : byteCodesOfGeneratedClasses.entrySet()) {
+				writeString(output, byteCode.getKey());
+				writeByteCode(output, byteCode.getValue());
+			}
+		} catch (IOException exc) {
+			temporaryFile.delete();
+			throw Throwables.toRuntimeException(exc);
+		}
+		try {
+			Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException exc) {
+			try {
+				Files.move(temporaryFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			} catch (IOException exc2) {
+				temporaryFile.delete();
+				throw Throwables.toRuntimeException(exc2);
+			}
+		}
+		ManagedLoggersRepository.logInfo(Snapshot.class, "Snapshot stored in {}", absolutePath);
+	}
+	
+	public static Snapshot load(String absolutePath) {
+		Snapshot snapshot = new Snapshot();
+		ByteBuffer buffer;
+		//The mapped buffer remains valid after the channel is closed and the byte codes
+		//are sliced from it, so they are never copied on the heap
+		try (FileChannel channel = FileChannel.open(new File(absolutePath).toPath(), StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw Throwables.toRuntimeException("Snapshot " + absolutePath + " is too large");
+			}
+			buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+		} catch (IOException exc) {
+			throw Throwables.toRuntimeException(exc);
+		}
+		if (buffer.getInt() != MAGIC_NUMBER || buffer.getInt() != VERSION) {
+			throw Throwables.toRuntimeException(absolutePath + " is not a valid snapshot");
+		}
+		snapshot.classPath = readString(buffer);
+		for (int i = buffer.getInt(); i > 0; i--) {
+			snapshot.pathsConfig.put(readString(buffer), readString(buffer));
+		}
+		int pathGroupsCount = buffer.getInt();
+		if (pathGroupsCount >= 0) {
+			snapshot.pathGroups = new HashMap<>();
+			for (int i = pathGroupsCount; i > 0; i--) {
+				String pathGroupName = readString(buffer);
+				Collection<String> paths = new ArrayList<>();
+				for (int j = buffer.getInt(); j > 0; j--) {
+					paths.add(readString(buffer));
+				}
+				snapshot.pathGroups.put(pathGroupName, paths);
+			}
+		}
+		for (int i = buffer.getInt(); i > 0; i--) {
+			String basePath = readString(buffer);
+			Map<String, long[]> state = new HashMap<>();
+			for (int j = buffer.getInt(); j > 0; j--) {
+				state.put(readString(buffer), new long[] {buffer.getLong(), buffer.getLong()});
+			}
+			snapshot.statesOfBasePaths.put(basePath, state);
+			Map<String, ByteBuffer> itemsForPath = new HashMap<>();
+			for (int j = buffer.getInt(); j > 0; j--) {
+				itemsForPath.put(readString(buffer), readByteCode(buffer));
+			}
+			snapshot.byteCodeHunterCache.put(basePath, itemsForPath);
+		}
+		for (int i = buffer.getInt(); i > 0; i--) {
+			snapshot.byteCodesOfGeneratedClasses.put(readString(buffer), readByteCode(buffer));
+		}
+		ManagedLoggersRepository.logInfo(Snapshot.class, "Snapshot loaded from {}", absolutePath);
+		return snapshot;
+	}
+	
+	public boolean containsPathGroupsFor(Properties config) {
+		return pathGroups != null &&
+			classPath.equals(System.getProperty("java.class.path", "")) &&
+			pathsConfig.equals(getPathsConfig(config));
+	}
+	
+	public Map<String, Collection<String>> getPathGroups() {
+		return pathGroups;
+	}
+	
+	public boolean containsByteCodeHunterCache() {
+		return !byteCodeHunterCache.isEmpty();
+	}
+	
+	public int loadInCache(ByteCodeHunter byteCodeHunter) {
+		int loadedBasePathsCount = 0;
+		for (Map.Entry<String, Map<String, ByteBuffer>> itemsForPath : byteCodeHunterCache.entrySet()) {
+			String basePath = itemsForPath.getKey();
+			if (isModified(statesOfBasePaths.get(basePath), getState(basePath))) {
+				ManagedLoggersRepository.logInfo(Snapshot.class, "Skipping snapshot of {} because it has been modified", basePath);
+				continue;
+			}
+			Map<String, JavaClass> javaClasses = new HashMap<>();
+			for (Map.Entry<String, ByteBuffer> item : itemsForPath.getValue().entrySet()) {
+				javaClasses.put(item.getKey(), JavaClass.create(item.getValue()));
+			}
+			if (byteCodeHunter.loadInCache(basePath, javaClasses)) {
+				++loadedBasePathsCount;
+			}
+		}
+		return loadedBasePathsCount;
+	}
+	
+	public boolean containsByteCodesOfGeneratedClasses() {
+		return !byteCodesOfGeneratedClasses.isEmpty();
+	}
+	
+	public void loadIn(ClassFactory classFactory) {
+		classFactory.loadByteCodesOfGeneratedClasses(byteCodesOfGeneratedClasses);
+	}
+	
+	//The modification time and the size of an archive change with its content, while the files of a folder are
+	//checked one by one: the directories are checked too, so that the added and removed files are detected
+	private static Map<String, long[]> getState(String basePath) {
+		File baseFile = new File(basePath);
+		Map<String, long[]> state = new HashMap<>();
+		if (baseFile.isDirectory()) {
+			Path basePathAsPath = baseFile.toPath();
+			try (Stream<Path> paths = Files.walk(basePathAsPath)) {
+				paths.forEach(path -> {
+					File file = path.toFile();
+					state.put(
+						basePathAsPath.relativize(path).toString(),
+						new long[] {file.lastModified(), file.isDirectory() ? 0L : file.length()}
+					);
+				});
+			} catch (IOException | UncheckedIOException exc) {
+				ManagedLoggersRepository.logWarn(Snapshot.class, "Could not read the state of {}: {}", basePath, exc.getMessage());
+				state.clear();
+			}
+		} else if (baseFile.lastModified() != 0L) {
+			state.put("", new long[] {baseFile.lastModified(), baseFile.length()});
+		}
+		return state;
+	}
+	
+	private static boolean isModified(Map<String, long[]> state, Map<String, long[]> currentState) {
+		if (state.isEmpty() || state.size() != currentState.size()) {
+			return true;
+		}
+		for (Map.Entry<String, long[]> fileState : state.entrySet()) {
+			if (!Arrays.equals(fileState.getValue(), currentState.get(fileState.getKey()))) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	static Map<String, String> getPathsConfig(Properties config) {
+		Map<String, String> pathsConfig = new TreeMap<>();
+		for (Map.Entry<Object, Object> entry : config.entrySet()) {
+			if (entry.getKey() instanceof String && ((String)entry.getKey()).startsWith(PathHelper.Configuration.Key.PATHS_PREFIX)) {
+				pathsConfig.put((String)entry.getKey(), String.valueOf(entry.getValue()));
+			}
+		}
+		return pathsConfig;
+	}
+	
+	private static void writeString(DataOutputStream output, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+	
+	private static void writeByteCode(DataOutputStream output, ByteBuffer byteCode) throws IOException {
+		byte[] bytes = Streams.toByteArray(byteCode);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+	
+	private static String readString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+	
+	private static ByteBuffer readByteCode(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		int position = ByteBufferDelegate.position(buffer);
+		ByteBuffer byteCode = Streams.slice(buffer, position, length);
+		ByteBufferDelegate.position(buffer, position + length);
+		return byteCode;
+	}
+	
+}
@@ -31,18 +31,120 @@ package org.burningwave.core.classes;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 
 public interface SourceGenerator {
 	
 	public String make();
 	
+	public default void make(Output output) {
+		output.append(make());
+	}
+	
 	public default <F> String _toString() {
 		return make();
 	}
 	
+	public static class Output implements Appendable {
+		private final StringBuilder builder;
+		private int indentation;
+		private boolean lineStarted;
+		
+		Output(StringBuilder builder) {
+			this.builder = builder;
+			this.lineStarted = true;
+		}
+		
+		public static Output create() {
+			return new Output(new StringBuilder(256));
+		}
+		
+		public Output indent() {
+			++indentation;
+			return this;
+		}
+		
+		public Output unindent() {
+			if (indentation > 0) {
+				--indentation;
+			}
+			return this;
+		}
+		
+		@Override
+		public Output append(CharSequence value) {
+			if (value != null) {
+				append(value, 0, value.length());
+			}
+			return this;
+		}
+		
+		@Override
+		public Output append(CharSequence value, int start, int end) {
+			if (value == null) {
+				return this;
+			}
+			int lineStart = start;
+			for (int i = start; i < end; i++) {
+				if (value.charAt(i) == '\n') {
+					if (i > lineStart) {
+						writeIndentationIfNeeded();
+						builder.append(value, lineStart, i);
+					}
+					builder.append('\n');
+					lineStarted = false;
+					lineStart = i + 1;
+				}
+			}
+			if (end > lineStart) {
+				writeIndentationIfNeeded();
+				builder.append(value, lineStart, end);
+			}
+			return this;
+		}
+		
+		@Override
+		public Output append(char character) {
+			if (character == '\n') {
+				builder.append(character);
+				lineStarted = false;
+			} else {
+				writeIndentationIfNeeded();
+				builder.append(character);
+			}
+			return this;
+		}
+		
+		private void writeIndentationIfNeeded() {
+			if (!lineStarted) {
+				for (int i = 0; i < indentation; i++) {
+					builder.append('\t');
+				}
+				lineStarted = true;
+			}
+		}
+		
+		boolean endsWithLineBreakOrTab() {
+			int length = builder.length();
+			if (length == 0) {
+				return false;
+			}
+			char lastCharacter = builder.charAt(length - 1);
+			return lastCharacter == '\n' || lastCharacter == '\t';
+		}
+		
+		public int length() {
+			return builder.length();
+		}
+		
+		@Override
+		public String toString() {
+			return builder.toString();
+		}
+	}
+	
 	public static abstract class Abst implements SourceGenerator {
 		static final String EMPTY_SPACE = " ";
 		static final String COMMA = ",";
@@ -53,6 +155,12 @@ public interface SourceGenerator {
 			return make();
 		}
 		
+		String render() {
+			Output output = Output.create();
+			make(output);
+			return output.toString();
+		}
+		
 		String getOrEmpty(SourceGenerator value) {
 			return Optional.ofNullable(value.make()).orElseGet(() -> "");
 		}
@@ -70,25 +178,54 @@ public interface SourceGenerator {
 		}
 		
 		String getOrEmpty(Collection<?> objects, String separator) {
-			String value = "";
-			objects = Optional.ofNullable(objects).map(objs -> new ArrayList<>(objs)).orElseGet(ArrayList::new);
-			objects.removeAll(Collections.singleton(null));
-			objects.removeAll(Collections.singleton(""));
-			Iterator<?> objectsItr = objects.iterator();
-			while (objectsItr.hasNext()) {
-				Object object = objectsItr.next();
+			Output output = Output.create();
+			append(output, objects, separator);
+			return output.toString();
+		}
+		
+		void append(Output output, Collection<?> objects, String separator) {
+			if (objects == null) {
+				return;
+			}
+			List<Object> values = new ArrayList<>(objects.size());
+			for (Object object : objects) {
+				if (object != null && !"".equals(object)) {
+					values.add(object);
+				}
+			}
+			int startLength = output.length();
+			Iterator<Object> valuesItr = values.iterator();
+			while (valuesItr.hasNext()) {
+				Object object = valuesItr.next();
 				if (object instanceof SourceGenerator) {
-					value += getOrEmpty((SourceGenerator)object);
+					((SourceGenerator)object).make(output);
 				} else if (object instanceof String) {
-					value += getOrEmpty((String)object);
+					output.append((String)object);
 				} else if (object instanceof Collection) {
-					value += getOrEmpty((Collection<?>)object, separator);
+					append(output, (Collection<?>)object, separator);
 				}
-				if (objectsItr.hasNext() && !value.endsWith("\t") && !value.endsWith("\n")) {
-					value += separator;
+				if (valuesItr.hasNext() && (output.length() == startLength || !output.endsWithLineBreakOrTab())) {
+					output.append(separator);
 				}
 			}
-			return value;
-		}		
+		}
+		
+		SourceGenerator joined(Collection<?> objects, String separator) {
+			if (objects == null || objects.isEmpty()) {
+				return null;
+			}
+			return new Abst() {
+				
+				@Override
+				public void make(Output output) {
+					append(output, objects, separator);
+				}
+				
+				@Override
+				public String make() {
+					return render();
+				}
+			};
+		}
 	}
 }
@@ -151,8 +151,13 @@ public class UnitSourceGenerator extends SourceGenerator.Abst {
 	
 	@Override
 	public String make() {
-		return getOrEmpty(
-			Arrays.asList("package " + packageName + ";", "\n", getImports(), "\n", getOrEmpty(classes, "\n\n")), "\n"	
+		return render();
+	}
+	
+	@Override
+	public void make(Output output) {
+		append(
+			output, Arrays.asList("package " + packageName + ";", "\n", getImports(), "\n", joined(classes, "\n\n")), "\n"
 		);
 	}
 	
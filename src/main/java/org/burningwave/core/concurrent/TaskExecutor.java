@@ -0,0 +1,212 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.concurrent;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.GlobalProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.burningwave.core.Component;
+import org.burningwave.core.iterable.Properties;
+
+public class TaskExecutor implements Component {
+	
+	public static class Configuration {
+		public static class Key {
+			
+			public static final String CPU_BOUND_THREADS_COUNT = "task-executor.cpu-bound.threads-count";
+			public static final String IO_BOUND_THREADS_COUNT = "task-executor.io-bound.threads-count";
+			public static final String IO_BOUND_QUEUE_SIZE = "task-executor.io-bound.queue-size";
+			public static final String IO_BOUND_VIRTUAL_THREADS_ENABLED = "task-executor.io-bound.virtual-threads.enabled";
+			
+		}
+		
+		public final static Map<String, Object> DEFAULT_VALUES;
+		
+		static {
+			DEFAULT_VALUES = new HashMap<>();
+			
+			DEFAULT_VALUES.put(Key.CPU_BOUND_THREADS_COUNT, "auto");
+			DEFAULT_VALUES.put(Key.IO_BOUND_THREADS_COUNT, "8");
+			DEFAULT_VALUES.put(Key.IO_BOUND_QUEUE_SIZE, "256");
+			DEFAULT_VALUES.put(Key.IO_BOUND_VIRTUAL_THREADS_ENABLED, "false");
+		}
+	}
+	
+	private ForkJoinPool cpuBoundPool;
+	private ExecutorService ioBoundExecutorService;
+	private Executor ioBoundExecutor;
+	private AtomicInteger ioBoundQueuedTasksCount;
+	private AtomicInteger ioBoundActiveTasksCount;
+	
+	private TaskExecutor(Properties config) {
+		String cpuBoundThreadsCount = config.resolveStringValue(Configuration.Key.CPU_BOUND_THREADS_COUNT, Configuration.DEFAULT_VALUES);
+		int ioBoundThreadsCount = Integer.valueOf(config.resolveStringValue(Configuration.Key.IO_BOUND_THREADS_COUNT, Configuration.DEFAULT_VALUES));
+		int ioBoundQueueSize = Integer.valueOf(config.resolveStringValue(Configuration.Key.IO_BOUND_QUEUE_SIZE, Configuration.DEFAULT_VALUES));
+		this.cpuBoundPool = new ForkJoinPool(
+			cpuBoundThreadsCount.equalsIgnoreCase("auto") ?
+				Runtime.getRuntime().availableProcessors() :
+				Integer.valueOf(cpuBoundThreadsCount),
+			pool -> {
+				ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName("Burningwave - cpu bound task executor - " + thread.getPoolIndex());
+				thread.setDaemon(true);
+				return thread;
+			},
+			null, false
+		);
+		if (Boolean.valueOf(config.resolveStringValue(Configuration.Key.IO_BOUND_VIRTUAL_THREADS_ENABLED, Configuration.DEFAULT_VALUES))) {
+			this.ioBoundExecutorService = createVirtualThreadPerTaskExecutor();
+		}
+		if (this.ioBoundExecutorService != null) {
+			//Virtual threads are not pooled: the permits bound the running tasks like the queue of the platform threads pool does
+			Semaphore permits = new Semaphore(ioBoundThreadsCount + ioBoundQueueSize);
+			ExecutorService virtualThreadExecutor = this.ioBoundExecutorService;
+			this.ioBoundExecutor = task -> {
+				if (permits.tryAcquire()) {
+					virtualThreadExecutor.execute(() -> {
+						try {
+							task.run();
+						} finally {
+							permits.release();
+						}
+					});
+				} else {
+					task.run();
+				}
+			};
+		} else {
+			//When the queue is full the submitting thread runs the task by itself
+			ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+				ioBoundThreadsCount, ioBoundThreadsCount, 60L, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(ioBoundQueueSize),
+				runnable -> {
+					Thread thread = new Thread(runnable, "Burningwave - io bound task executor");
+					thread.setDaemon(true);
+					return thread;
+				},
+				new ThreadPoolExecutor.CallerRunsPolicy()
+			);
+			threadPoolExecutor.allowCoreThreadTimeOut(true);
+			this.ioBoundExecutor = this.ioBoundExecutorService = threadPoolExecutor;
+		}
+		this.ioBoundQueuedTasksCount = new AtomicInteger();
+		this.ioBoundActiveTasksCount = new AtomicInteger();
+	}
+	
+	public static TaskExecutor create(Properties config) {
+		return new TaskExecutor(config);
+	}
+	
+	public static TaskExecutor getDefault() {
+		return DefaultInstanceHolder.INSTANCE;
+	}
+	
+	private ExecutorService createVirtualThreadPerTaskExecutor() {
+		try {
+			return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (NoSuchMethodException exc) {
+			logWarn("Virtual threads are not supported by this JVM: platform threads will be used for io bound tasks");
+		} catch (Throwable exc) {
+			logWarn("Could not create virtual threads executor: platform threads will be used for io bound tasks", exc);
+		}
+		return null;
+	}
+	
+	public Executor getCPUBoundExecutor() {
+		return cpuBoundPool;
+	}
+	
+	public CompletableFuture<Void> runAsync(Runnable task) {
+		return CompletableFuture.runAsync(task, cpuBoundPool);
+	}
+	
+	//The parallel streams used by the task run in the cpu bound pool instead of the common pool
+	public void runAndWait(Runnable task) {
+		Thread currentThread = Thread.currentThread();
+		if (currentThread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread)currentThread).getPool() == cpuBoundPool) {
+			task.run();
+		} else {
+			cpuBoundPool.submit(task).join();
+		}
+	}
+	
+	public <T> CompletableFuture<T> supplyIOBoundAsync(Supplier<T> task) {
+		ioBoundQueuedTasksCount.incrementAndGet();
+		return CompletableFuture.supplyAsync(() -> {
+			ioBoundQueuedTasksCount.decrementAndGet();
+			ioBoundActiveTasksCount.incrementAndGet();
+			try {
+				return task.get();
+			} finally {
+				ioBoundActiveTasksCount.decrementAndGet();
+			}
+		}, ioBoundExecutor);
+	}
+	
+	public int getCPUBoundQueuedTasksCount() {
+		return (int)Math.min(cpuBoundPool.getQueuedSubmissionCount() + cpuBoundPool.getQueuedTaskCount(), Integer.MAX_VALUE);
+	}
+	
+	public int getCPUBoundActiveTasksCount() {
+		return cpuBoundPool.getActiveThreadCount();
+	}
+	
+	public int getIOBoundQueuedTasksCount() {
+		return ioBoundQueuedTasksCount.get();
+	}
+	
+	public int getIOBoundActiveTasksCount() {
+		return ioBoundActiveTasksCount.get();
+	}
+	
+	@Override
+	public void close() {
+		cpuBoundPool.shutdown();
+		ioBoundExecutorService.shutdown();
+	}
+	
+	private static class DefaultInstanceHolder {
+		private static final TaskExecutor INSTANCE = create(GlobalProperties);
+	}
+	
+}
@@ -73,6 +73,12 @@ public final class ByteBufferInputStream extends InputStream {
         return len;
     }
     
+    @Override
+    public int available() {
+    	ByteBuffer buffer = this.buffer;
+    	return buffer != null ? buffer.remaining() : 0;
+    }
+    
     @Override
     public void close() throws IOException {
     	buffer = null;
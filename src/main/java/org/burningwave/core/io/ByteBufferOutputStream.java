@@ -39,12 +39,16 @@ import java.nio.ByteBuffer;
 
 public class ByteBufferOutputStream extends OutputStream {
 
-    private static final float REALLOCATION_FACTOR = 1.1f;
+    private static final int REALLOCATION_FACTOR = 2;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
 
     private Integer initialCapacity;
     private Integer initialPosition;
     private ByteBuffer buffer;
     private Boolean closeable;
+    //True while the buffer has been allocated by this stream and no view of it has been handed out:
+    //only in this case its native memory can be released without waiting for the garbage collector
+    private boolean bufferOwned;
     
     public ByteBufferOutputStream() {
     	this(Streams.defaultBufferSize);
@@ -67,6 +71,7 @@ public class ByteBufferOutputStream extends OutputStream {
 
     public ByteBufferOutputStream(int initialCapacity, boolean closeable) {
         this(Streams.defaultByteBufferAllocationMode.apply(initialCapacity), closeable);
+        this.bufferOwned = true;
     }
     
     public void markAsCloseable(boolean closeable) {
@@ -115,24 +120,38 @@ public class ByteBufferOutputStream extends OutputStream {
     }
 
     private void expandBuffer(int remainingRequired) {
-        int expandSize = Math.max((int) (ByteBufferDelegate.limit(buffer) * REALLOCATION_FACTOR), ByteBufferDelegate.position(buffer) + remainingRequired);
+        long requiredSize = (long)ByteBufferDelegate.position(buffer) + remainingRequired;
+        if (requiredSize > MAX_CAPACITY) {
+        	throw new OutOfMemoryError("Required buffer size " + requiredSize + " exceeds the maximum capacity");
+        }
+        //Growing geometrically keeps the number of reallocations and copies logarithmic in the final size
+        int expandSize = (int)Math.min(Math.max((long)ByteBufferDelegate.limit(buffer) * REALLOCATION_FACTOR, requiredSize), MAX_CAPACITY);
         ByteBuffer temp = Streams.defaultByteBufferAllocationMode.apply(expandSize);
         int limit = limit();
         ByteBufferDelegate.flip(buffer);
         temp.put(buffer);
         ByteBufferDelegate.limit(buffer, limit);
         ByteBufferDelegate.position(buffer, initialPosition);
+        if (bufferOwned) {
+        	Streams.release(buffer);
+        }
         buffer = temp;
+        bufferOwned = true;
     }
     
     
     InputStream toBufferedInputStream() {
+    	bufferOwned = false;
         return new ByteBufferInputStream(buffer);
     }
     
     @Override
     public void close() {
     	if (closeable) {
+    		if (bufferOwned) {
+    			Streams.release(buffer);
+    			bufferOwned = false;
+    		}
     		this.initialCapacity = null;
     		this.initialPosition = null;
     		this.buffer = null;
@@ -141,10 +160,12 @@ public class ByteBufferOutputStream extends OutputStream {
     }
 
 	public ByteBuffer toByteBuffer() {
+		bufferOwned = false;
 		return Streams.shareContent(buffer);
 	}
 
 	public byte[] toByteArray() {
-		return Streams.toByteArray(toByteBuffer());
+		//The content is copied, so the buffer remains releasable
+		return Streams.toByteArray(buffer);
 	}
 }
\ No newline at end of file
@@ -28,6 +28,7 @@
  */
 package org.burningwave.core.io;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.ByteBufferDelegate;
 import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
 import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
 import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
@@ -35,9 +36,11 @@ import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 import org.burningwave.core.Component;
 import org.burningwave.core.function.ThrowingRunnable;
+import org.burningwave.core.function.ThrowingSupplier;
 
 public class FileInputStream extends java.io.FileInputStream implements Component {
 	
@@ -87,13 +90,38 @@ public class FileInputStream extends java.io.FileInputStream implements Componen
 	}
 	
 	public byte[] toByteArray() {
-		return Streams.toByteArray(this);
+		return Streams.toByteArray(readAll());
 	}
 
 	public ByteBuffer toByteBuffer() {
 		return Cache.pathForContents.getOrUploadIfAbsent(
 			file.getAbsolutePath(), () -> 
-			Streams.toByteBuffer(this)
+			readAll()
 		);
 	}
+	
+	ByteBuffer readAll() {
+		return ThrowingSupplier.get(() -> {
+			FileChannel channel = getChannel();
+			long size = channel.size() - channel.position();
+			if (size > Integer.MAX_VALUE - 8) {
+				throw new OutOfMemoryError("File " + absolutePath + " is too large to be loaded in a buffer");
+			}
+			//The size of the file is known: the content is read with no intermediate copy and no reallocation
+			ByteBuffer content = Streams.defaultByteBufferAllocationMode.apply((int)size);
+			while (content.hasRemaining() && channel.read(content) != -1) {}
+			if (!content.hasRemaining() && channel.position() < channel.size()) {
+				//The file has grown while reading
+				try (ByteBufferOutputStream output = new ByteBufferOutputStream((int)Math.min(channel.size(), Integer.MAX_VALUE - 8))) {
+					ByteBufferDelegate.flip(content);
+					output.write(content);
+					Streams.copy(this, output);
+					Streams.release(content);
+					return output.toByteBuffer();
+				}
+			}
+			ByteBufferDelegate.flip(content);
+			return content;
+		});
+	}
 }
\ No newline at end of file
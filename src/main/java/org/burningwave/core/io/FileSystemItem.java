@@ -143,7 +143,9 @@ public class FileSystemItem implements ManagedLogger {
 		Set<FileSystemItem> allChildren = findInAllChildren(finalFilter);
 		for (FileSystemItem child : allChildren) {
 			FileSystemItem destFile = FileSystemItem.ofPath(folder + child.getAbsolutePath().replaceFirst(this.getAbsolutePath(), ""));
-			logDebug("Copying " + child.getAbsolutePath());
+			if (isDebugEnabled()) {
+				logDebug("Copying " + child.getAbsolutePath());
+			}
 			if (child.isFolder()) {
 				File file = new File(destFile.getAbsolutePath());
 				if (!file.exists()) {
@@ -37,6 +37,7 @@ import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URLClassLoader;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -104,6 +105,17 @@ public class PathHelper implements Component {
 		listenTo(config);
 	}
 	
+	private PathHelper(Properties config, Map<String, Collection<String>> pathGroups) {
+		this.pathGroups = new ConcurrentHashMap<>();
+		allPaths = ConcurrentHashMap.newKeySet();
+		this.config = config;
+		for (Map.Entry<String, Collection<String>> pathGroup : pathGroups.entrySet()) {
+			getOrCreatePathGroup(pathGroup.getKey()).addAll(pathGroup.getValue());
+			allPaths.addAll(pathGroup.getValue());
+		}
+		listenTo(config);
+	}
+	
 	@Override
 	public <K, V>void receiveNotification(Properties properties, Event event, K key, V value) {
 		if (event == Event.PUT) {
@@ -120,6 +132,10 @@ public class PathHelper implements Component {
 		return new PathHelper(config);
 	}
 	
+	public static PathHelper create(Properties config, Map<String, Collection<String>> pathGroups) {
+		return new PathHelper(config, pathGroups);
+	}
+	
 	private void loadMainClassPaths() {
 		String classPaths = System.getProperty("java.class.path");
 		if (Strings.isNotEmpty(classPaths)) {
@@ -177,6 +193,14 @@ public class PathHelper implements Component {
 		return getPaths(Configuration.Key.MAIN_CLASS_PATHS, Configuration.Key.MAIN_CLASS_PATHS_EXTENSION);
 	}
 	
+	public Map<String, Collection<String>> getPathGroups() {
+		Map<String, Collection<String>> pathGroups = new HashMap<>();
+		for (Map.Entry<String, Collection<String>> pathGroup : this.pathGroups.entrySet()) {
+			pathGroups.put(pathGroup.getKey(), new ArrayList<>(pathGroup.getValue()));
+		}
+		return pathGroups;
+	}
+	
 	public Collection<String> getAllPaths() {
 		Collection<String> allPaths = ConcurrentHashMap.newKeySet();
 		allPaths.addAll(this.allPaths);
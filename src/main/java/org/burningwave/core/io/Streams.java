@@ -36,10 +36,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.RandomAccessFile;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -75,6 +80,7 @@ public class Streams implements Component {
 	public int defaultBufferSize;
 	Function<Integer, ByteBuffer> defaultByteBufferAllocationMode;
 	private Mutex.Manager mutexManager;
+	private Consumer<ByteBuffer> directBufferCleaner;
 	
 	private Streams(Properties config) {
 		String defaultBufferSize = config.resolveStringValue(Configuration.Key.BUFFER_SIZE, Configuration.DEFAULT_VALUES);
@@ -150,14 +156,28 @@ public class Streams implements Component {
 	}
 
 	public byte[] toByteArray(InputStream inputStream) {
-		try (ByteBufferOutputStream output = new ByteBufferOutputStream()) {
+		return toByteArray(inputStream, defaultBufferSize);
+	}
+	
+	public byte[] toByteArray(InputStream inputStream, int sizeHint) {
+		if (inputStream instanceof FileInputStream) {
+			return toByteArray(((FileInputStream)inputStream).readAll());
+		}
+		try (ByteBufferOutputStream output = new ByteBufferOutputStream(sizeHint > 0 ? sizeHint : defaultBufferSize)) {
 			copy(inputStream, output);
 			return output.toByteArray();
 		}
 	}
 
 	public ByteBuffer toByteBuffer(InputStream inputStream) {
-		try (ByteBufferOutputStream output = new ByteBufferOutputStream()) {
+		return toByteBuffer(inputStream, defaultBufferSize);
+	}
+	
+	public ByteBuffer toByteBuffer(InputStream inputStream, int sizeHint) {
+		if (inputStream instanceof FileInputStream) {
+			return ((FileInputStream)inputStream).readAll();
+		}
+		try (ByteBufferOutputStream output = new ByteBufferOutputStream(sizeHint > 0 ? sizeHint : defaultBufferSize)) {
 			copy(inputStream, output);
 			return output.toByteBuffer();
 		}
@@ -191,6 +211,70 @@ public class Streams implements Component {
 		return duplicated;
 	}
 	
+	//Frees immediately the native memory of a direct buffer instead of waiting for the garbage collector:
+	//it must be called only on buffers allocated by this component and never shared, since any view
+	//of a released buffer points to freed memory
+	boolean release(ByteBuffer byteBuffer) {
+		if (byteBuffer == null || !byteBuffer.isDirect()) {
+			return false;
+		}
+		try {
+			getDirectBufferCleaner().accept(byteBuffer);
+			return true;
+		} catch (Throwable exc) {
+			logWarn("Could not release direct buffer. Cause: {}", exc.getMessage());
+			return false;
+		}
+	}
+	
+	private Consumer<ByteBuffer> getDirectBufferCleaner() {
+		if (directBufferCleaner == null) {
+			synchronized (this) {
+				if (directBufferCleaner == null) {
+					directBufferCleaner = ThrowingSupplier.get(this::createDirectBufferCleaner);
+				}
+			}
+		}
+		return directBufferCleaner;
+	}
+	
+	private Consumer<ByteBuffer> createDirectBufferCleaner() throws Throwable {
+		Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+		try {
+			Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+			Field theUnsafeField = unsafeClass.getDeclaredField("theUnsafe");
+			theUnsafeField.setAccessible(true);
+			Object unsafe = theUnsafeField.get(null);
+			return byteBuffer -> ThrowingRunnable.run(() -> invokeCleaner.invoke(unsafe, byteBuffer));
+		} catch (NoSuchMethodException exc) {
+			//JDK 8
+			Method cleanerRetriever = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+			Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+			return byteBuffer -> ThrowingRunnable.run(() -> {
+				Object cleaner = cleanerRetriever.invoke(byteBuffer);
+				if (cleaner != null) {
+					clean.invoke(cleaner);
+				}
+			});
+		}
+	}
+	
+	public long getDirectMemoryUsed() {
+		for (BufferPoolMXBean bufferPool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+			if ("direct".equals(bufferPool.getName())) {
+				return bufferPool.getMemoryUsed();
+			}
+		}
+		return -1;
+	}
+	
+	public ByteBuffer slice(ByteBuffer byteBuffer, int offset, int length) {
+		ByteBuffer duplicated = byteBuffer.duplicate();
+		ByteBufferDelegate.limit(duplicated, offset + length);
+		ByteBufferDelegate.position(duplicated, offset);
+		return duplicated.slice().asReadOnlyBuffer();
+	}
+	
 	public FileSystemItem store(String fileAbsolutePath, byte[] bytes) {
 		return store(fileAbsolutePath, defaultByteBufferAllocationMode.apply(bytes.length).put(bytes, 0, bytes.length));
 	}
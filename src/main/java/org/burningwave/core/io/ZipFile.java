@@ -28,107 +28,223 @@
  */
 package org.burningwave.core.io;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.ByteBufferDelegate;
 import static org.burningwave.core.assembler.StaticComponentContainer.Cache;
-import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.ManagedLoggersRepository;
 import static org.burningwave.core.assembler.StaticComponentContainer.Paths;
 import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
 import static org.burningwave.core.assembler.StaticComponentContainer.Throwables;
 
-import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Enumeration;
 import java.util.Iterator;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
 import java.util.zip.ZipEntry;
 
 class ZipFile implements IterableZipContainer {
+	private final static int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+	private final static int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+	private final static int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+	private final static int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE = 20;
+	private final static int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+	private final static int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+	private final static int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+	private final static int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+	private final static int LOCAL_FILE_HEADER_SIZE = 30;
+	private final static int ZIP64_EXTRA_FIELD_TAG = 0x0001;
+	private final static long ZIP64_MAGIC_VALUE = 0xFFFFFFFFL;
+	
 	String absolutePath;
 	String conventionedAbsolutePath;
 	IterableZipContainer parent;
 	IterableZipContainer.Entry currentZipEntry;
 	Iterator<Entry> entriesIterator;
 	Collection<Entry> entries;
-	Runnable temporaryFileDeleter;
-	java.util.zip.ZipFile originalZipFile;
+	ByteBuffer content;
 	
 	ZipFile(String absolutePath, ByteBuffer content) {
 		this.absolutePath = Paths.clean(absolutePath);
-		entries = ConcurrentHashMap.newKeySet();
-		try (java.util.zip.ZipFile zipFile = retrieveFile(absolutePath, content)) {
-			Enumeration<? extends ZipEntry> entriesIterator = zipFile.entries();
-			while (entriesIterator.hasMoreElements()) {
-				ZipEntry zipEntry = entriesIterator.nextElement();
-				entries.add(
-					new Entry(
-						this, 
-						zipEntry.getName(), () -> {
-							try (
-								InputStream zipEntryIS = retrieveFile(absolutePath, content).getInputStream(zipEntry);
-								ByteBufferOutputStream bBOS = new ByteBufferOutputStream()
-							){
-								 Streams.copy(zipEntryIS, bBOS);
-								 return bBOS.toByteBuffer();
-							} catch (Throwable exc) {
-								ManagedLoggersRepository.logError(this.getClass(), "Could not load content of " + zipEntry.getName() + " of " + getAbsolutePath(), exc);
-								return null;
-							}
+		this.content = Streams.shareContent(content).order(ByteOrder.LITTLE_ENDIAN);
+		this.entries = loadEntries();
+		this.entriesIterator = entries.iterator();
+	}
+	
+	private ZipFile(String absolutePath, ByteBuffer content, Collection<Entry> entries) {
+		this.absolutePath = absolutePath;
+		this.content = content;
+		this.entries = entries;
+		this.entriesIterator = entries.iterator();
+	}
+	
+	//The archive may be preceded by a header (i.e. the 4 bytes of the JMod files): the offsets stored in 
+	//the central directory are relative to the start of the embedded zip so they must be shifted
+	private Collection<Entry> loadEntries() {
+		int endOfCentralDirectoryPosition = findEndOfCentralDirectory();
+		if (endOfCentralDirectoryPosition < 0) {
+			throw Throwables.toRuntimeException("Could not find the end of central directory record of " + absolutePath);
+		}
+		long entriesCount = Short.toUnsignedLong(content.getShort(endOfCentralDirectoryPosition + 10));
+		long centralDirectorySize = Integer.toUnsignedLong(content.getInt(endOfCentralDirectoryPosition + 12));
+		long centralDirectoryOffset = Integer.toUnsignedLong(content.getInt(endOfCentralDirectoryPosition + 16));
+		long centralDirectoryEndPosition = endOfCentralDirectoryPosition;
+		int zip64LocatorPosition = endOfCentralDirectoryPosition - ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE;
+		if (zip64LocatorPosition >= 0 && content.getInt(zip64LocatorPosition) == ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE) {
+			int zip64EndOfCentralDirectoryPosition = findZip64EndOfCentralDirectory(zip64LocatorPosition);
+			if (zip64EndOfCentralDirectoryPosition >= 0) {
+				entriesCount = content.getLong(zip64EndOfCentralDirectoryPosition + 32);
+				centralDirectorySize = content.getLong(zip64EndOfCentralDirectoryPosition + 40);
+				centralDirectoryOffset = content.getLong(zip64EndOfCentralDirectoryPosition + 48);
+				centralDirectoryEndPosition = zip64EndOfCentralDirectoryPosition;
+			}
+		}
+		long archiveOffset = centralDirectoryEndPosition - centralDirectorySize - centralDirectoryOffset;
+		Collection<Entry> entries = new ArrayList<>((int)entriesCount);
+		int position = (int)(archiveOffset + centralDirectoryOffset);
+		for (long i = 0; i < entriesCount; i++) {
+			if (content.getInt(position) != CENTRAL_DIRECTORY_HEADER_SIGNATURE) {
+				throw Throwables.toRuntimeException("Invalid central directory header at position " + position + " of " + absolutePath);
+			}
+			int method = Short.toUnsignedInt(content.getShort(position + 10));
+			long compressedSize = Integer.toUnsignedLong(content.getInt(position + 20));
+			long size = Integer.toUnsignedLong(content.getInt(position + 24));
+			int nameLength = Short.toUnsignedInt(content.getShort(position + 28));
+			int extraFieldLength = Short.toUnsignedInt(content.getShort(position + 30));
+			int commentLength = Short.toUnsignedInt(content.getShort(position + 32));
+			long localFileHeaderOffset = Integer.toUnsignedLong(content.getInt(position + 42));
+			String name = readName(position + CENTRAL_DIRECTORY_HEADER_SIZE, nameLength);
+			if (size == ZIP64_MAGIC_VALUE || compressedSize == ZIP64_MAGIC_VALUE || localFileHeaderOffset == ZIP64_MAGIC_VALUE) {
+				int extraFieldPosition = position + CENTRAL_DIRECTORY_HEADER_SIZE + nameLength;
+				int extraFieldEndPosition = extraFieldPosition + extraFieldLength;
+				while (extraFieldPosition + 4 <= extraFieldEndPosition) {
+					int tag = Short.toUnsignedInt(content.getShort(extraFieldPosition));
+					int dataSize = Short.toUnsignedInt(content.getShort(extraFieldPosition + 2));
+					if (tag == ZIP64_EXTRA_FIELD_TAG) {
+						int valuePosition = extraFieldPosition + 4;
+						if (size == ZIP64_MAGIC_VALUE) {
+							size = content.getLong(valuePosition);
+							valuePosition += 8;
+						}
+						if (compressedSize == ZIP64_MAGIC_VALUE) {
+							compressedSize = content.getLong(valuePosition);
+							valuePosition += 8;
+						}
+						if (localFileHeaderOffset == ZIP64_MAGIC_VALUE) {
+							localFileHeaderOffset = content.getLong(valuePosition);
 						}
+						break;
+					}
+					extraFieldPosition += 4 + dataSize;
+				}
+			}
+			entries.add(
+				new Entry(
+					this, name, createContentSupplier(
+						name, method, (int)compressedSize, (int)size, archiveOffset + localFileHeaderOffset
 					)
-				);
-				originalZipFile = null;
+				)
+			);
+			position += CENTRAL_DIRECTORY_HEADER_SIZE + nameLength + extraFieldLength + commentLength;
+		}
+		return entries;
+	}
+	
+	private int findEndOfCentralDirectory() {
+		int limit = ByteBufferDelegate.limit(content);
+		int minPosition = Math.max(0, limit - END_OF_CENTRAL_DIRECTORY_SIZE - 0xFFFF);
+		for (int position = limit - END_OF_CENTRAL_DIRECTORY_SIZE; position >= minPosition; position--) {
+			if (content.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE &&
+				position + END_OF_CENTRAL_DIRECTORY_SIZE + Short.toUnsignedInt(content.getShort(position + 20)) == limit
+			) {
+				return position;
+			}
+		}
+		return -1;
+	}
+	
+	private int findZip64EndOfCentralDirectory(int zip64LocatorPosition) {
+		for (int position = zip64LocatorPosition - 56; position >= 0; position--) {
+			if (content.getInt(position) == ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE &&
+				position + 12 + content.getLong(position + 4) == zip64LocatorPosition
+			) {
+				return position;
 			}
-		} catch (IOException exc) {
-			throw Throwables.toRuntimeException(exc);
 		}
-		entriesIterator = entries.iterator();
+		return -1;
 	}
 
-	private java.util.zip.ZipFile retrieveFile(String absolutePath, ByteBuffer content) {
-		java.util.zip.ZipFile originalZipFile = this.originalZipFile;
-		if (originalZipFile == null) {
-			synchronized (this) {
-				if ((originalZipFile = this.originalZipFile) == null) {
-					File file = new File(absolutePath);
-					if (!file.exists()) {
-						File temporaryFolder = FileSystemHelper.getOrCreateTemporaryFolder(toString());
-						FileSystemItem fileSystemItem = FileSystemItem.ofPath(temporaryFolder.getAbsolutePath() + "/" + file.getName());
-						if (!fileSystemItem.exists()) {
-							fileSystemItem = Streams.store(temporaryFolder.getAbsolutePath() + "/" + file.getName(), content);
-							String temporaryFileAbsolutePath = fileSystemItem.getAbsolutePath();
-							temporaryFileDeleter = () -> {
-								FileSystemHelper.delete(new File(temporaryFileAbsolutePath));
-								Cache.pathForContents.remove(temporaryFileAbsolutePath);
-							};
-						}			
-						file = new File(fileSystemItem.getAbsolutePath());
-					}
-					try {
-						originalZipFile = this.originalZipFile = new java.util.zip.ZipFile(file);
-					} catch (IOException exc) {
-						throw Throwables.toRuntimeException(exc);
-					}
+	private String readName(int position, int length) {
+		byte[] name = new byte[length];
+		ByteBuffer duplicated = content.duplicate();
+		ByteBufferDelegate.position(duplicated, position);
+		duplicated.get(name);
+		return new String(name, StandardCharsets.UTF_8);
+	}
+	
+	private Supplier<ByteBuffer> createContentSupplier(String name, int method, int compressedSize, int size, long localFileHeaderPosition) {
+		ByteBuffer content = this.content;
+		return () -> {
+			try {
+				int position = (int)localFileHeaderPosition;
+				if (content.getInt(position) != LOCAL_FILE_HEADER_SIGNATURE) {
+					throw Throwables.toRuntimeException("Invalid local file header at position " + position);
+				}
+				int dataPosition = position + LOCAL_FILE_HEADER_SIZE + 
+					Short.toUnsignedInt(content.getShort(position + 26)) + 
+					Short.toUnsignedInt(content.getShort(position + 28));
+				if (method == ZipEntry.STORED) {
+					return Streams.slice(content, dataPosition, size);
 				}
+				return inflate(Streams.slice(content, dataPosition, compressedSize), size);
+			} catch (Throwable exc) {
+				ManagedLoggersRepository.logError(this.getClass(), "Could not load content of " + name + " of " + absolutePath, exc);
+				return null;
 			}
-		}
-		return originalZipFile;
+		};
 	}
 	
-	private ZipFile(String absolutePath, Collection<Entry> entries) {
-		this.absolutePath = absolutePath;
-		this.entries = entries;
-		this.entriesIterator = entries.iterator();
+	private ByteBuffer inflate(ByteBuffer compressedContent, int size) throws DataFormatException {
+		Inflater inflater = new Inflater(true);
+		try (ByteBufferOutputStream output = new ByteBufferOutputStream(size > 0 ? size : Streams.defaultBufferSize)) {
+			byte[] inputBuffer = new byte[Math.min(Streams.defaultBufferSize, Math.max(compressedContent.remaining(), 1))];
+			byte[] outputBuffer = new byte[Streams.defaultBufferSize];
+			boolean dummyByteSupplied = false;
+			while (!inflater.finished()) {
+				if (inflater.needsInput()) {
+					int length = Math.min(inputBuffer.length, compressedContent.remaining());
+					if (length > 0) {
+						compressedContent.get(inputBuffer, 0, length);
+						inflater.setInput(inputBuffer, 0, length);
+					} else if (!dummyByteSupplied) {
+						//The "nowrap" inflater could require an extra dummy byte to complete
+						dummyByteSupplied = true;
+						inflater.setInput(new byte[1], 0, 1);
+					} else {
+						throw new DataFormatException("Unexpected end of compressed data");
+					}
+				} else if (inflater.needsDictionary()) {
+					throw new DataFormatException("Preset dictionaries are not supported");
+				}
+				int inflatedBytesCount = inflater.inflate(outputBuffer);
+				if (inflatedBytesCount > 0) {
+					output.write(outputBuffer, 0, inflatedBytesCount);
+				}
+			}
+			return output.toByteBuffer();
+		} finally {
+			inflater.end();
+		}
 	}
 	
 	@Override
 	public IterableZipContainer duplicate() {
-		return new ZipFile(absolutePath, entries);
+		return new ZipFile(absolutePath, content, entries);
 	}
 	
 	@Override
@@ -168,7 +284,7 @@ class ZipFile implements IterableZipContainer {
 
 	@Override
 	public ByteBuffer toByteBuffer() {
-		return Cache.pathForContents.get(absolutePath);
+		return Streams.shareContent(content);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -200,28 +316,16 @@ class ZipFile implements IterableZipContainer {
 	@Override
 	public void close() {
 		closeEntry();
-		java.util.zip.ZipFile originalZipFile = this.originalZipFile;
-		if (originalZipFile != null) {
-			try {
-				originalZipFile.close();
-			} catch (IOException exc) {
-				logError("Exception while closing " + getAbsolutePath(), exc);
-			}
-		}
 		this.absolutePath = null;
 		this.entriesIterator = null;
 		this.entries = null;
+		this.content = null;
 	}
 	
 	@Override
 	public void destroy() {
 		IterableZipContainer.super.destroy();
 		close();
-		Runnable temporaryFileDeleter = this.temporaryFileDeleter;
-		if (temporaryFileDeleter != null) {
-			this.temporaryFileDeleter = null;
-			temporaryFileDeleter.run();			
-		}
 	}
 	
 	public static class Entry implements IterableZipContainer.Entry {
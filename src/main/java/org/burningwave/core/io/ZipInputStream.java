@@ -129,7 +129,11 @@ class ZipInputStream extends java.util.zip.ZipInputStream implements IterableZip
 	public IterableZipContainer.Entry getNextEntry(Predicate<IterableZipContainer.Entry> loadZipEntryData) {
 		ThrowingRunnable.run(() -> {
 			try {
-				currentZipEntry = (Entry.Attached)super.getNextEntry();
+				Entry.Attached zipEntry = (Entry.Attached)super.getNextEntry();
+				if (zipEntry != null) {
+					zipEntry.contentOffset = retrieveContentPosition();
+				}
+				currentZipEntry = zipEntry;
 			} catch (ZipException exc) {
 				String message = exc.getMessage();
 				logWarn("Could not open zipEntry of {}: {}", absolutePath, message);
@@ -141,6 +145,20 @@ class ZipInputStream extends java.util.zip.ZipInputStream implements IterableZip
 		return currentZipEntry;
 	}		
 	
+	private int retrieveContentPosition() {
+		ByteBufferInputStream byteBufferInputStream = this.byteBufferInputStream;
+		if (byteBufferInputStream == null) {
+			return -1;
+		}
+		try {
+			//The bytes pushed back by the wrapping PushbackInputStream have already been read from the buffer
+			int pushedBackBytesCount = in.available() - byteBufferInputStream.available();
+			return ByteBufferDelegate.position(byteBufferInputStream.getBuffer()) - pushedBackBytesCount;
+		} catch (IOException exc) {
+			return -1;
+		}
+	}
+	
 	public IterableZipContainer.Entry getNextEntryAsDetached() {
 		return getNextEntryAsDetached(zEntry -> false);
 	}
@@ -188,15 +206,18 @@ class ZipInputStream extends java.util.zip.ZipInputStream implements IterableZip
 	
 		static class Attached extends java.util.zip.ZipEntry implements Entry {
 			private ZipInputStream zipInputStream;
+			private int contentOffset;
 	
 			public Attached(Entry.Attached e, ZipInputStream zIS) {
 				super(e);
 				this.zipInputStream = zIS;
+				this.contentOffset = e.contentOffset;
 			}
 			
 			public Attached(String name, ZipInputStream zIS) {
 				super(name);
 				this.zipInputStream = zIS;
+				this.contentOffset = -1;
 			}
 			
 			@SuppressWarnings("unchecked")
@@ -234,6 +255,10 @@ class ZipInputStream extends java.util.zip.ZipInputStream implements IterableZip
 						if (zipInputStream.getCurrentZipEntry() != this) {
 							throw Throwables.toRuntimeException(Attached.class.getSimpleName() + " and his ZipInputStream are not aligned");
 						}
+						ByteBuffer storedContent = sliceStoredContent();
+						if (storedContent != null) {
+							return storedContent;
+						}
 						try (ByteBufferOutputStream bBOS = createDataBytesContainer()) {
 							Streams.copy(zipInputStream, bBOS);
 						    return bBOS.toByteBuffer();
@@ -246,6 +271,18 @@ class ZipInputStream extends java.util.zip.ZipInputStream implements IterableZip
 				
 			}		
 	
+			private ByteBuffer sliceStoredContent() {
+				long size = super.getSize();
+				if (getMethod() != STORED || contentOffset < 0 || size < 0) {
+					return null;
+				}
+				ByteBuffer zipInputStreamContent = zipInputStream.toByteBuffer();
+				if (contentOffset + size > ByteBufferDelegate.limit(zipInputStreamContent)) {
+					return null;
+				}
+				return Streams.slice(zipInputStreamContent, contentOffset, (int)size);
+			}
+			
 			public ByteBuffer toByteBuffer() {
 				return loadContent();
 			}
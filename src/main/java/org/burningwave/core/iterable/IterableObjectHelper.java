@@ -251,65 +251,88 @@ public class IterableObjectHelper implements Component {
 		boolean deleteUnresolvedPlaceHolder,
 		Map<?,?> defaultValues
 	) {
+		ResolvedValuesCache resolvedValuesCache;
+		if (map instanceof Properties && (resolvedValuesCache = ((Properties)map).resolvedValuesCache) != null) {
+			return resolvedValuesCache.getOrResolve(key, valuesSeparator, deleteUnresolvedPlaceHolder, defaultValues, resolution -> {
+				if (defaultValues instanceof Properties && defaultValues != map) {
+					ResolvedValuesCache.Resolution.markAsNotCacheable(resolution);
+				}
+				return resolve(map, key, valuesSeparator, deleteUnresolvedPlaceHolder, defaultValues, resolution);
+			});
+		}
+		return resolve(map, key, valuesSeparator, deleteUnresolvedPlaceHolder, defaultValues, null);
+	}
+	
+	private <T> T resolve(
+		Map<?,?> map,
+		Object key,
+		String valuesSeparator,
+		boolean deleteUnresolvedPlaceHolder,
+		Map<?,?> defaultValues,
+		ResolvedValuesCache.Resolution resolution
+	) {
+		ResolvedValuesCache.Resolution.addKey(resolution, key);
 		T value = (T) map.get(key);
 		if (value == null && defaultValues != null) {
-			value = (T) resolve(defaultValues, key, valuesSeparator, deleteUnresolvedPlaceHolder, null);
+			value = (T) resolve(defaultValues, key, valuesSeparator, deleteUnresolvedPlaceHolder, null, resolution);
 		}
 		if (value != null && value instanceof String) {
 			String stringValue = (String)value;
 			Collection<Object> values = new ArrayList<>();
 			if (!Strings.isEmpty(stringValue)) {
-				Map<Integer, List<String>> subProperties = Strings.extractAllGroups(Strings.PLACE_HOLDER_NAME_EXTRACTOR_PATTERN, stringValue);		
-				if (!subProperties.isEmpty()) {
-					for (Map.Entry<Integer, List<String>> entry : subProperties.entrySet()) {
-						for (String propName : entry.getValue()) {
-							Object valueObjects = null;
-							if (!propName.startsWith("system.properties:")) {
-								valueObjects = resolve(map, propName, valuesSeparator, deleteUnresolvedPlaceHolder, defaultValues);
+				List<String> placeHolders = ResolvedValuesCache.Resolution.getPlaceHolders(resolution, stringValue);
+				if (!placeHolders.isEmpty()) {
+					for (String propName : placeHolders) {
+						Object valueObjects = null;
+						if (!propName.startsWith("system.properties:")) {
+							valueObjects = resolve(map, propName, valuesSeparator, deleteUnresolvedPlaceHolder, defaultValues, resolution);
+						} else {
+							ResolvedValuesCache.Resolution.markAsNotCacheable(resolution);
+							valueObjects = System.getProperty(propName.split(":")[1]);
+							if (valuesSeparator != null) {
+								valueObjects = ((String)valueObjects).replace(
+									System.getProperty("path.separator"), valuesSeparator
+								);
+							}
+						}
+						if (deleteUnresolvedPlaceHolder && valueObjects == null) {
+							stringValue = ResolvedValuesCache.Resolution.getUnresolvedPlaceHolderPattern(
+								resolution,
+								Strings.placeHolderToRegEx("${" + propName + "}") + ".*?" + Optional.ofNullable(valuesSeparator).orElseGet(() -> "")
+							).matcher(stringValue).replaceAll("");
+							values.add(stringValue);
+						} else if (valueObjects != null) {
+							Collection<Object> replacements = new ArrayList<>();
+							if (valueObjects instanceof String) {
+								replacements.add(valueObjects);
+							} else if (valueObjects instanceof Collection) {
+								replacements.addAll((Collection<?>)valueObjects);
 							} else {
-								valueObjects = System.getProperty(propName.split(":")[1]);
-								if (valuesSeparator != null) {
-									valueObjects = ((String)valueObjects).replace(
-										System.getProperty("path.separator"), valuesSeparator
-									);
-								}
+								replacements.add(valueObjects);
 							}
-							if (deleteUnresolvedPlaceHolder && valueObjects == null) {
-								stringValue = stringValue.replaceAll(Strings.placeHolderToRegEx("${" + propName + "}") + ".*?" + Optional.ofNullable(valuesSeparator).orElseGet(() -> ""), "");
-								values.add(stringValue);
-							} else if (valueObjects != null) {
-								Collection<Object> replacements = new ArrayList<>();
-								if (valueObjects instanceof String) {
-									replacements.add(valueObjects);
-								} else if (valueObjects instanceof Collection) {
-									replacements.addAll((Collection<?>)valueObjects);
-								} else {
-									replacements.add(valueObjects);
-								}
-								for (Object valueObject : replacements) {
-									if (valueObject instanceof String) {
-										String replacement = (String)valueObject;
-										if (valuesSeparator == null) {
-											values.add(stringValue.replace("${" + propName + "}", replacement));
-										} else {
-											for (String replacementUnit : replacement.split(valuesSeparator)) {
-												String valuesToAdd = stringValue.replace("${" + propName + "}", replacementUnit);
-												if (valuesToAdd.contains(valuesSeparator)) {
-													for (String valueToAdd : valuesToAdd.split(valuesSeparator)) {
-														values.add(valueToAdd);
-													}
-												} else {
-													values.add(valuesToAdd);
+							for (Object valueObject : replacements) {
+								if (valueObject instanceof String) {
+									String replacement = (String)valueObject;
+									if (valuesSeparator == null) {
+										values.add(stringValue.replace("${" + propName + "}", replacement));
+									} else {
+										for (String replacementUnit : replacement.split(valuesSeparator)) {
+											String valuesToAdd = stringValue.replace("${" + propName + "}", replacementUnit);
+											if (valuesToAdd.contains(valuesSeparator)) {
+												for (String valueToAdd : valuesToAdd.split(valuesSeparator)) {
+													values.add(valueToAdd);
 												}
+											} else {
+												values.add(valuesToAdd);
 											}
 										}
-									} else {
-										values.add(valueObject);
 									}
+								} else {
+									values.add(valueObject);
 								}
-							} else {
-								values.add(stringValue);
 							}
+						} else {
+							values.add(stringValue);
 						}
 					}
 				} else {
@@ -30,9 +30,14 @@ package org.burningwave.core.iterable;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 public class Properties extends java.util.Properties {
 	private static final long serialVersionUID = -350748766178421942L;
@@ -42,16 +47,17 @@ public class Properties extends java.util.Properties {
 	}
 	
 	private Collection<Listener> listeners;
-	
+	transient ResolvedValuesCache resolvedValuesCache;
 	
 	public Properties() {
 		super();
 		listeners = new CopyOnWriteArrayList<>();
+		//Registered as first listener so that the other ones resolve the updated values
+		(resolvedValuesCache = new ResolvedValuesCache()).listenTo(this);
 	}
 	
 	public Properties(Properties defaults) {
-		super();
-		listeners = new CopyOnWriteArrayList<>();
+		this();
 	}
 
 ////////////////////
@@ -147,6 +153,121 @@ public class Properties extends java.util.Properties {
 		return removed;
 	}
 	
+	//The following methods don't notify the listeners: the resolved values are invalidated directly
+	@Override
+	public synchronized Object putIfAbsent(Object key, Object value) {
+		Object previousValue = super.putIfAbsent(key, value);
+		invalidateResolvedValues(key);
+		return previousValue;
+	}
+	
+	@Override
+	public synchronized boolean remove(Object key, Object value) {
+		boolean removed = super.remove(key, value);
+		invalidateResolvedValues(key);
+		return removed;
+	}
+	
+	@Override
+	public synchronized Object replace(Object key, Object value) {
+		Object previousValue = super.replace(key, value);
+		invalidateResolvedValues(key);
+		return previousValue;
+	}
+	
+	@Override
+	public synchronized boolean replace(Object key, Object oldValue, Object newValue) {
+		boolean replaced = super.replace(key, oldValue, newValue);
+		invalidateResolvedValues(key);
+		return replaced;
+	}
+	
+	@Override
+	public synchronized Object computeIfAbsent(Object key, Function<? super Object, ?> mappingFunction) {
+		Object value = super.computeIfAbsent(key, mappingFunction);
+		invalidateResolvedValues(key);
+		return value;
+	}
+	
+	@Override
+	public synchronized Object computeIfPresent(Object key, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+		Object value = super.computeIfPresent(key, remappingFunction);
+		invalidateResolvedValues(key);
+		return value;
+	}
+	
+	@Override
+	public synchronized Object compute(Object key, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+		Object value = super.compute(key, remappingFunction);
+		invalidateResolvedValues(key);
+		return value;
+	}
+	
+	@Override
+	public synchronized Object merge(Object key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+		Object mergedValue = super.merge(key, value, remappingFunction);
+		invalidateResolvedValues(key);
+		return mergedValue;
+	}
+	
+	@Override
+	public synchronized void replaceAll(BiFunction<? super Object, ? super Object, ?> function) {
+		super.replaceAll(function);
+		clearResolvedValues();
+	}
+	
+	@Override
+	public synchronized void clear() {
+		super.clear();
+		clearResolvedValues();
+	}
+	
+	private void invalidateResolvedValues(Object key) {
+		if (resolvedValuesCache != null) {
+			resolvedValuesCache.invalidate(key);
+		}
+	}
+	
+	private void clearResolvedValues() {
+		if (resolvedValuesCache != null) {
+			resolvedValuesCache.clear();
+		}
+	}
+	
+	//The copy has its own listeners and its own cache of the resolved values: the other listeners are still notified
+	//of the changes of the copy
+	@Override
+	public synchronized Object clone() {
+		Properties clone = (Properties)super.clone();
+		clone.listeners = new CopyOnWriteArrayList<>();
+		(clone.resolvedValuesCache = new ResolvedValuesCache()).listenTo(clone);
+		for (Listener listener : listeners) {
+			if (listener != resolvedValuesCache) {
+				clone.listeners.add(listener);
+			}
+		}
+		return clone;
+	}
+	
+	//The cache of the resolved values is not serialized: it is rebuilt when the properties are read
+	private void writeObject(ObjectOutputStream output) throws IOException {
+		Collection<Listener> listeners = new CopyOnWriteArrayList<>(this.listeners);
+		listeners.remove(resolvedValuesCache);
+		ObjectOutputStream.PutField fields = output.putFields();
+		fields.put("listeners", listeners);
+		output.writeFields();
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream input) throws IOException, ClassNotFoundException {
+		Collection<Listener> listeners = (Collection<Listener>)input.readFields().get("listeners", null);
+		this.listeners = new CopyOnWriteArrayList<>();
+		(resolvedValuesCache = new ResolvedValuesCache()).listenTo(this);
+		if (listeners != null) {
+			this.listeners.addAll(listeners);
+		}
+	}
+	
 	private void notifyChange(Event event, Object key, Object value) {
 		listeners.forEach((listener) -> 
 			listener.receiveNotification(this, event, key, value)
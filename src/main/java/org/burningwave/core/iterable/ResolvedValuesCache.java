@@ -0,0 +1,244 @@
+/*
+ * This file is part of Burningwave Core.
+ *
+ * Author: Roberto Gentili
+ *
+ * Hosted at: https://github.com/burningwave/core
+ *
+ * --
+ *
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2019 Roberto Gentili
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without
+ * limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so, subject to the following
+ * conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT
+ * LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO
+ * EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN
+ * AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE
+ * OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.burningwave.core.iterable;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Strings;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+//Memorizes the placeholders of the values and the resolved values of a Properties: a resolved value, and the
+//placeholders and the patterns used to resolve it, are discarded as soon as one of the keys it has been resolved
+//from is put or removed
+class ResolvedValuesCache implements Properties.Listener {
+	private static final Object NULL_VALUE = new Object();
+	
+	private Map<Key, Object> resolvedValues;
+	private Map<Object, Collection<Key>> resolvedValuesForKey;
+	private Map<String, List<String>> placeHolders;
+	private Map<String, Pattern> unresolvedPlaceHolderPatterns;
+	private Map<Object, Collection<String>> placeHoldersValuesForKey;
+	private Map<Object, Collection<String>> unresolvedPlaceHolderRegExesForKey;
+	private long version;
+	
+	ResolvedValuesCache() {
+		this.resolvedValues = new ConcurrentHashMap<>();
+		this.resolvedValuesForKey = new ConcurrentHashMap<>();
+		this.placeHolders = new ConcurrentHashMap<>();
+		this.unresolvedPlaceHolderPatterns = new ConcurrentHashMap<>();
+		this.placeHoldersValuesForKey = new ConcurrentHashMap<>();
+		this.unresolvedPlaceHolderRegExesForKey = new ConcurrentHashMap<>();
+	}
+	
+	@SuppressWarnings("unchecked")
+	<T> T getOrResolve(
+		Object key,
+		String valuesSeparator,
+		boolean deleteUnresolvedPlaceHolder,
+		Map<?,?> defaultValues,
+		Function<Resolution, T> resolver
+	) {
+		Key resolvedValueKey = new Key(key, valuesSeparator, deleteUnresolvedPlaceHolder, defaultValues);
+		Object value = resolvedValues.get(resolvedValueKey);
+		if (value == null) {
+			long version;
+			synchronized (this) {
+				version = this.version;
+			}
+			Resolution resolution = new Resolution(this);
+			resolution.keys.add(key);
+			value = resolver.apply(resolution);
+			synchronized (this) {
+				for (Object dependency : resolution.keys) {
+					if (!resolution.placeHoldersValues.isEmpty()) {
+						placeHoldersValuesForKey.computeIfAbsent(dependency, dep -> new HashSet<>()).addAll(resolution.placeHoldersValues);
+					}
+					if (!resolution.unresolvedPlaceHolderRegExes.isEmpty()) {
+						unresolvedPlaceHolderRegExesForKey.computeIfAbsent(dependency, dep -> new HashSet<>()).addAll(resolution.unresolvedPlaceHolderRegExes);
+					}
+				}
+				//A value resolved while the properties were changing could be stale
+				if (resolution.cacheable && version == this.version) {
+					resolvedValues.put(resolvedValueKey, value != null ? value : NULL_VALUE);
+					for (Object dependency : resolution.keys) {
+						resolvedValuesForKey.computeIfAbsent(dependency, dep -> new HashSet<>()).add(resolvedValueKey);
+					}
+				}
+			}
+		} else if (value == NULL_VALUE) {
+			return null;
+		}
+		//The collections are copied because the callers are free to modify them
+		return value instanceof Collection ? (T)new ArrayList<>((Collection<?>)value) : (T)value;
+	}
+	
+	List<String> getPlaceHolders(String value) {
+		List<String> placeHolders = this.placeHolders.get(value);
+		if (placeHolders == null) {
+			placeHolders = this.placeHolders.computeIfAbsent(value, ResolvedValuesCache::extractPlaceHolders);
+		}
+		return placeHolders;
+	}
+	
+	Pattern getUnresolvedPlaceHolderPattern(String regEx) {
+		Pattern pattern = unresolvedPlaceHolderPatterns.get(regEx);
+		if (pattern == null) {
+			pattern = unresolvedPlaceHolderPatterns.computeIfAbsent(regEx, Pattern::compile);
+		}
+		return pattern;
+	}
+	
+	static List<String> extractPlaceHolders(String value) {
+		List<String> placeHolders = new ArrayList<>();
+		for (List<String> placeHoldersOfGroup : Strings.extractAllGroups(Strings.PLACE_HOLDER_NAME_EXTRACTOR_PATTERN, value).values()) {
+			placeHolders.addAll(placeHoldersOfGroup);
+		}
+		return placeHolders.isEmpty() ? Collections.emptyList() : placeHolders;
+	}
+	
+	@Override
+	public <K, V> void receiveNotification(Properties properties, Properties.Event event, K key, V value) {
+		invalidate(key);
+	}
+	
+	synchronized void invalidate(Object key) {
+		++version;
+		Collection<Key> resolvedValueKeys = resolvedValuesForKey.remove(key);
+		if (resolvedValueKeys != null) {
+			for (Key resolvedValueKey : resolvedValueKeys) {
+				resolvedValues.remove(resolvedValueKey);
+			}
+		}
+		//The placeholders and the patterns shared with other keys are extracted and compiled again when needed
+		Collection<String> placeHoldersValues = placeHoldersValuesForKey.remove(key);
+		if (placeHoldersValues != null) {
+			placeHolders.keySet().removeAll(placeHoldersValues);
+		}
+		Collection<String> unresolvedPlaceHolderRegExes = unresolvedPlaceHolderRegExesForKey.remove(key);
+		if (unresolvedPlaceHolderRegExes != null) {
+			unresolvedPlaceHolderPatterns.keySet().removeAll(unresolvedPlaceHolderRegExes);
+		}
+	}
+	
+	synchronized void clear() {
+		++version;
+		resolvedValues.clear();
+		resolvedValuesForKey.clear();
+		placeHolders.clear();
+		unresolvedPlaceHolderPatterns.clear();
+		placeHoldersValuesForKey.clear();
+		unresolvedPlaceHolderRegExesForKey.clear();
+	}
+	
+	static class Resolution {
+		private ResolvedValuesCache cache;
+		private Collection<Object> keys;
+		private Collection<String> placeHoldersValues;
+		private Collection<String> unresolvedPlaceHolderRegExes;
+		private boolean cacheable;
+		
+		private Resolution(ResolvedValuesCache cache) {
+			this.cache = cache;
+			this.keys = new HashSet<>();
+			this.placeHoldersValues = new HashSet<>();
+			this.unresolvedPlaceHolderRegExes = new HashSet<>();
+			this.cacheable = true;
+		}
+		
+		static List<String> getPlaceHolders(Resolution resolution, String value) {
+			if (resolution == null) {
+				return extractPlaceHolders(value);
+			}
+			resolution.placeHoldersValues.add(value);
+			return resolution.cache.getPlaceHolders(value);
+		}
+		
+		static Pattern getUnresolvedPlaceHolderPattern(Resolution resolution, String regEx) {
+			if (resolution == null) {
+				return Pattern.compile(regEx);
+			}
+			resolution.unresolvedPlaceHolderRegExes.add(regEx);
+			return resolution.cache.getUnresolvedPlaceHolderPattern(regEx);
+		}
+		
+		static void addKey(Resolution resolution, Object key) {
+			if (resolution != null) {
+				resolution.keys.add(key);
+			}
+		}
+		
+		//Used when the value depends on maps that don't notify their changes, like the system properties
+		static void markAsNotCacheable(Resolution resolution) {
+			if (resolution != null) {
+				resolution.cacheable = false;
+			}
+		}
+	}
+	
+	private static class Key {
+		private Object key;
+		private String valuesSeparator;
+		private boolean deleteUnresolvedPlaceHolder;
+		private Map<?,?> defaultValues;
+		private int hashCode;
+		
+		private Key(Object key, String valuesSeparator, boolean deleteUnresolvedPlaceHolder, Map<?,?> defaultValues) {
+			this.key = key;
+			this.valuesSeparator = valuesSeparator;
+			this.deleteUnresolvedPlaceHolder = deleteUnresolvedPlaceHolder;
+			this.defaultValues = defaultValues;
+			this.hashCode = Objects.hash(key, valuesSeparator, deleteUnresolvedPlaceHolder, System.identityHashCode(defaultValues));
+		}
+		
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+		
+		@Override
+		public boolean equals(Object object) {
+			if (!(object instanceof Key)) {
+				return false;
+			}
+			Key other = (Key)object;
+			return deleteUnresolvedPlaceHolder == other.deleteUnresolvedPlaceHolder &&
+				defaultValues == other.defaultValues &&
+				Objects.equals(key, other.key) &&
+				Objects.equals(valuesSeparator, other.valuesSeparator);
+		}
+	}
+}
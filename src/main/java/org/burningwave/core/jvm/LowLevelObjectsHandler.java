@@ -135,7 +135,7 @@ public class LowLevelObjectsHandler implements Component, MembersRetriever {
 				field = parentClassLoaderFields.get(classLoaderClass);
 				if (field == null) {
 					field = Members.findOne(
-						FieldCriteria.on(classLoaderClass).name("parent"::equals), classLoaderClass
+						FieldCriteria.on(classLoaderClass).name("parent"), classLoaderClass
 					);
 					setAccessible(field, true);
 					parentClassLoaderFields.put(classLoaderClass, field);
@@ -162,7 +162,7 @@ public class LowLevelObjectsHandler implements Component, MembersRetriever {
 					MethodCriteria.byScanUpTo(
 						cls -> cls.getName().equals(ClassLoader.class.getName())
 					).name(
-						"loadClass"::equals
+						"loadClass"
 					).and().parameterTypesAreAssignableFrom(
 						String.class, boolean.class
 					), futureParent.getClass()
@@ -170,7 +170,7 @@ public class LowLevelObjectsHandler implements Component, MembersRetriever {
 				Object classLoaderDelegate = unsafe.allocateInstance(classLoaderDelegateClass);
 				invoke(classLoaderDelegate,
 					Members.findOne(
-						MethodCriteria.on(classLoaderDelegateClass).name("init"::equals), classLoaderDelegateClass
+						MethodCriteria.on(classLoaderDelegateClass).name("init"), classLoaderDelegateClass
 					), futureParent,
 					Methods.convertToMethodHandle(
 						methods.stream().skip(methods.size() - 1).findFirst().get()
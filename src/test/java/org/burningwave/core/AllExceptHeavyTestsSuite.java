@@ -23,6 +23,7 @@ import org.junit.runner.RunWith;
     IterableObjectHelperTest.class,
     IterableZipContainerTest.class,
     LowLevelObjectsHandlerTest.class,
+    ManagedLoggerTest.class,
     MembersTest.class,
     MemoryClassLoaderTest.class,
     MethodsTest.class,
@@ -30,6 +31,7 @@ import org.junit.runner.RunWith;
     PathScannerClassLoaderTest.class,
     PropertyAccessorTest.class,
     SourceCodeHandlerTest.class,
+    StreamsTest.class,
     StringsTest.class,
     UnitSourceGeneratorTest.class,
     RepeatedClassFactoryTest.class,
@@ -2,6 +2,7 @@ package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Classes;
 import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.InputStream;
 import java.lang.reflect.Method;
@@ -27,6 +28,7 @@ import org.burningwave.core.classes.SearchConfig;
 import org.burningwave.core.classes.TypeDeclarationSourceGenerator;
 import org.burningwave.core.classes.UnitSourceGenerator;
 import org.burningwave.core.classes.VariableSourceGenerator;
+import org.burningwave.core.function.MultiParamsFunction;
 import org.burningwave.core.io.PathHelper;
 import org.burningwave.core.service.Service;
 import org.junit.jupiter.api.Test;
@@ -39,6 +41,18 @@ public class ClassFactoryTest extends BaseTest {
 		testNotNull(() -> componentSupplier.getClassFactory().loadOrBuildAndDefineFunctionSubType(Thread.currentThread().getContextClassLoader(), 10));
 	}	
 	
+	@Test
+	public void getOrBuildFunctionClassTestTwo() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(() -> {
+			Class<?> cls = componentSupplier.getClassFactory().loadOrBuildAndDefineFunctionSubType(Thread.currentThread().getContextClassLoader(), 7);
+			assertTrue(cls.isInterface());
+			assertTrue(cls.getTypeParameters().length == 8);
+			assertTrue(MultiParamsFunction.class.isAssignableFrom(cls) && Virtual.class.isAssignableFrom(cls));
+			return cls;
+		});
+	}
+	
 	@Test
 	public void getOrBuildConsumerClassTestOne() {
 		ComponentSupplier componentSupplier = getComponentSupplier();
@@ -355,6 +369,53 @@ public class ClassFactoryTest extends BaseTest {
 		);
 	}
 	
+	@Test
+	public void getOrBuildPojoClassByByteCodeTestOne() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(() -> {
+			java.lang.Class<?> cls = componentSupplier.getClassFactory().loadOrBuildAndDefinePojoSubType(
+				Thread.currentThread().getContextClassLoader(),
+				this.getClass().getPackage().getName() + ".TestOneByteCodePojoImpl",
+				PojoSourceGenerator.BUILDING_METHODS_CREATION_ENABLED | PojoSourceGenerator.DIRECT_BYTE_CODE_GENERATION_ENABLED,
+				Complex.Data.Item.class,
+				PojoInterface.class
+			);
+			Class<?> reloadedCls = componentSupplier.getClassFactory().loadOrBuildAndDefinePojoSubType(
+				Thread.currentThread().getContextClassLoader(), cls.getPackage().getName() + ".ExtendedByteCodePojoImpl",
+				PojoSourceGenerator.BUILDING_METHODS_CREATION_ENABLED | PojoSourceGenerator.DIRECT_BYTE_CODE_GENERATION_ENABLED, cls
+			);
+			Method createMethod = Classes.getDeclaredMethods(reloadedCls, method -> 
+				method.getName().equals("create") &&
+				method.getParameterTypes()[0].equals(String.class)).stream().findFirst().orElse(null);
+			PojoInterface pojoObject = (PojoInterface)createMethod.invoke(null, "try");
+			assertTrue(pojoObject.getClass() == reloadedCls);
+			List<Object> list = new ArrayList<>();
+			pojoObject.setList(list);
+			assertTrue(pojoObject.getList() == list);
+			assertTrue(!pojoObject.isValid());
+			assertTrue("try".equals(((Complex.Data.Item)pojoObject).getName()));
+			return pojoObject;
+		});
+	}
+	
+	@Test
+	public void getOrBuildPojoClassByByteCodeTestTwo() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(() -> {
+			java.lang.Class<?> virtualClass = componentSupplier.getClassFactory().loadOrBuildAndDefinePojoSubType(
+				Thread.currentThread().getContextClassLoader(), this.getClass().getPackage().getName() + ".TestTwoByteCodePojoImpl",
+				PojoSourceGenerator.DIRECT_BYTE_CODE_GENERATION_ENABLED,
+				Service.class,
+				PojoInterface.class
+			);
+			Virtual virtual = (Virtual)Constructors.newInstanceDirectOf(virtualClass);
+			virtual.invokeDirect("setList", new ArrayList<>());
+			virtual.invoke("consume", Integer.valueOf(1));
+			List<?> list = virtual.getDirectValueOf("list");
+			return list;
+		});
+	}
+	
 	public static class Repeat extends ClassFactoryTest {
 		
 	}
@@ -1,5 +1,7 @@
 package org.burningwave.core;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.io.Closeable;
 import java.io.Serializable;
 import java.math.BigDecimal;
@@ -8,6 +10,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.bean.Complex;
@@ -18,6 +21,7 @@ import org.burningwave.core.classes.ConstructorCriteria;
 import org.burningwave.core.classes.MethodCriteria;
 import org.burningwave.core.classes.PathScannerClassLoader;
 import org.burningwave.core.classes.SearchConfig;
+import org.burningwave.core.classes.SearchStatistics;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.PathHelper;
 import org.junit.jupiter.api.Test;
@@ -48,6 +52,33 @@ public class ClassHunterTest extends BaseTest {
 		);
 	}
 	
+	@Test
+	public void findAllInPackageInCacheTestOne() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		String path = componentSupplier.getPathHelper().getAbsolutePathOfResource("../../src/test/external-resources");
+		componentSupplier.getClassHunter().loadInCache(SearchConfig.forPaths(path)).find().close();
+		testNotEmpty(
+			() -> componentSupplier.getClassHunter().findBy(
+				SearchConfig.forPaths(path).by(
+					ClassCriteria.create().packageName("org.springframework.core")
+				)
+			),
+			(result) -> {
+				Collection<Class<?>> classesByIndex = result.getClasses();
+				try (ClassHunter.SearchResult resultByPredicate = componentSupplier.getClassHunter().findBy(
+					SearchConfig.forPaths(path).by(
+						ClassCriteria.create().packageName(packageName -> "org.springframework.core".equals(packageName))
+					)
+				)) {
+					assertTrue(classesByIndex.size() == resultByPredicate.getClasses().size() &&
+						classesByIndex.containsAll(resultByPredicate.getClasses())
+					);
+				}
+				return classesByIndex;
+			}
+		);
+	}
+	
 	@Test
 	public void getResourceAsStreamTestOne() {
 		ComponentSupplier componentSupplier = getComponentSupplier();
@@ -189,6 +220,39 @@ public class ClassHunterTest extends BaseTest {
 			(result) -> result.getClasses()
 		);
 	}
+	
+	@Test
+	public void findAllSubtypeOfByPrefetchingFileContentsTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotEmpty(
+			() -> componentSupplier.getClassHunter().findBy(
+				SearchConfig.forPaths(
+					componentSupplier.getPathHelper().getMainClassPaths()
+				).by(
+					ClassCriteria.create().byClasses((uploadedClasses, currentScannedClass) ->
+						uploadedClasses.get(Serializable.class).isAssignableFrom(currentScannedClass)
+					).useClasses(
+						Serializable.class
+					)
+				).prefetchFileContents(true)
+			),
+			(result) -> result.getClasses()
+		);
+	}
+	
+	@Test
+	public void findAllWithStatisticsTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(
+			() -> componentSupplier.getClassHunter().findBy(
+				SearchConfig.forPaths(
+					componentSupplier.getPathHelper().getMainClassPaths()
+				).collectStatistics(true)
+			),
+			(result) -> result.getStatistics().get(SearchStatistics.Counter.CLASSES_PARSED) > 0 ?
+				result.getStatistics() : null
+		);
+	}
 
 	
 	@Test
@@ -1325,4 +1389,25 @@ public class ClassHunterTest extends BaseTest {
 				result.getClasses()
 		);
 	}
+	
+	@Test
+	public void findAllInTaskExecutorThreads() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		Collection<String> threadNames = ConcurrentHashMap.newKeySet();
+		testNotEmpty(
+			() -> componentSupplier.getClassHunter().findBy(
+				SearchConfig.forPaths(
+					componentSupplier.getPathHelper().getAbsolutePathOfResource("../../src/test/external-resources/commons-lang")
+				).by(
+					ClassCriteria.create().allThat((cls) -> 
+						threadNames.add(Thread.currentThread().getName()) || true
+					)
+				)
+			),
+			(result) -> {
+				assertTrue(threadNames.stream().allMatch(threadName -> threadName.startsWith("Burningwave - cpu bound task executor")));
+				return result.getClasses();
+			}
+		);
+	}
 }
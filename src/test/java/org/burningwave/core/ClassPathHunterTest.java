@@ -1,12 +1,17 @@
 package org.burningwave.core;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.io.Closeable;
 
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.bean.Complex;
 import org.burningwave.core.classes.CacheableSearchConfig;
 import org.burningwave.core.classes.ClassCriteria;
+import org.burningwave.core.classes.ClassPathHunter;
 import org.burningwave.core.classes.SearchConfig;
+import org.burningwave.core.service.Service;
 import org.junit.jupiter.api.Test;
 
 public class ClassPathHunterTest extends BaseTest {
@@ -56,6 +61,25 @@ public class ClassPathHunterTest extends BaseTest {
 		);
 	}
 	
+	@Test
+	public void findAllInManyClassPathsTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotEmpty(
+			() -> componentSupplier.getClassPathHunter().findBy(
+				SearchConfig.forPaths(
+					componentSupplier.getPathHelper().getAbsolutePathOfResource("../../src/test/external-resources")
+				).by(
+					ClassCriteria.create().className(className ->
+						className.startsWith("org.")
+					)
+				)
+			),
+			(result) ->
+				result.getClassPaths(),
+			true
+		);
+	}
+	
 	@Test
 	public void cacheTestOne() {
 		ComponentSupplier componentSupplier = getComponentSupplier();
@@ -101,5 +125,31 @@ public class ClassPathHunterTest extends BaseTest {
 			}, true
 		);
 	}
-
+	
+	@Test
+	public void findAllInClassPathSharedByManyBasePathsTestOne() {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testDoesNotThrow(() -> {
+			ClassPathHunter classPathHunter = componentSupplier.getClassPathHunter();
+			String beanFolder = componentSupplier.getPathHelper().getAbsolutePathOfResource(Complex.class.getPackage().getName().replace(".", "/"));
+			String serviceFolder = componentSupplier.getPathHelper().getAbsolutePathOfResource(Service.class.getPackage().getName().replace(".", "/"));
+			classPathHunter.findBy(SearchConfig.forPaths(beanFolder)).close();
+			//The two base paths have the same class path, so the classes of the second one must not be added to the cached ones of the first
+			try (ClassPathHunter.SearchResult result = classPathHunter.findBy(SearchConfig.forPaths(beanFolder, serviceFolder))) {
+				assertEquals(1, result.getClassPaths().size());
+			}
+			//The cached classes of the first base path are tested again by the criteria
+			try (ClassPathHunter.SearchResult result = classPathHunter.findBy(
+				SearchConfig.forPaths(beanFolder).by(ClassCriteria.create().className(Complex.class.getName()::equals))
+			)) {
+				assertEquals(1, result.getClassPaths().size());
+			}
+			try (ClassPathHunter.SearchResult result = classPathHunter.findBy(
+				SearchConfig.forPaths(beanFolder).by(ClassCriteria.create().className(Service.class.getName()::equals))
+			)) {
+				assertTrue(result.getClassPaths().isEmpty());
+			}
+		});
+	}
+	
 }
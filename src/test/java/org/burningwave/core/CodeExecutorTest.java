@@ -1,12 +1,25 @@
 package org.burningwave.core;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
 
 import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.classes.CodeExecutor;
 import org.burningwave.core.classes.ExecuteConfig;
 import org.burningwave.core.classes.MemoryClassLoader;
+import org.burningwave.core.iterable.Properties;
 import org.junit.jupiter.api.Test;
 
 public class CodeExecutorTest extends BaseTest {
@@ -30,6 +43,68 @@ public class CodeExecutorTest extends BaseTest {
 		});
 	}
 	
+	@Test
+	public void executeCachedCodeTest() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(() -> {
+			Class<?> executorClass = componentSupplier.getCodeExecutor().execute(
+				ExecuteConfig.forBodySourceGenerator()
+				.addCodeRow("return (T)getClass();")
+			);
+			assertSame(
+				executorClass,
+				componentSupplier.getCodeExecutor().execute(
+					ExecuteConfig.forBodySourceGenerator()
+					.addCodeRow("return (T)getClass();")
+				)
+			);
+			return executorClass;
+		});
+	}
+	
+	@Test
+	public void executeCachedCodeWhileCacheIsDiscardedTest() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(() -> {
+			CountDownLatch started = new CountDownLatch(1);
+			CountDownLatch released = new CountDownLatch(1);
+			CompletableFuture<ClassLoader> executorClassLoaderSupplier = CompletableFuture.supplyAsync(() ->
+				componentSupplier.getCodeExecutor().execute(
+					ExecuteConfig.forBodySourceGenerator()
+					.useType(CountDownLatch.class, Supplier.class)
+					.addCodeRow("((CountDownLatch)parameter[0]).countDown();")
+					.addCodeRow("try {")
+					.addCodeRow("\t((CountDownLatch)parameter[1]).await();")
+					.addCodeRow("} catch (InterruptedException exc) {")
+					.addCodeRow("\tthrow new RuntimeException(exc);")
+					.addCodeRow("}")
+					.addCodeRow("Supplier<String> supplier = new Supplier<String>() {")
+					.addCodeRow("\tpublic String get() {")
+					.addCodeRow("\t\treturn \"loaded after the cache has been discarded\";")
+					.addCodeRow("\t}")
+					.addCodeRow("};")
+					.addCodeRow("System.out.println(supplier.get());")
+					.addCodeRow("return (T)getClass().getClassLoader();")
+					.useAsParentClassLoader(MemoryClassLoader.create(getClass().getClassLoader()))
+					.withParameter(started, released)
+				)
+			);
+			started.await();
+			//The cache of the executor in flight is the oldest one so it is discarded
+			for (int i = 0; i < 4; i++) {
+				componentSupplier.getCodeExecutor().execute(
+					ExecuteConfig.forBodySourceGenerator()
+					.addCodeRow("return (T)getClass();")
+					.useAsParentClassLoader(MemoryClassLoader.create(getClass().getClassLoader()))
+				);
+			}
+			released.countDown();
+			ClassLoader executorClassLoader = executorClassLoaderSupplier.join();
+			assertTrue((Boolean)Fields.getDirect(executorClassLoader, "isClosed"));
+			return executorClassLoader;
+		});
+	}
+	
 	@Test
 	public void executeCodeOfPropertiesFileTest() throws Exception {
 		ComponentSupplier componentSupplier = getComponentSupplier();
@@ -71,6 +146,61 @@ public class CodeExecutorTest extends BaseTest {
 		});
 	}
 	
+	@Test
+	public void loadOrBuildAndDefineExecutorsTestOne() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(() -> {
+			Properties properties = new Properties();
+			properties.put("sum", "Integer.valueOf((Integer)parameter[0] + (Integer)parameter[1])");
+			properties.put("sum.simple-name", "Sum");
+			properties.put("now", "new Date()");
+			properties.put("now.imports", "java.util.Date;");
+			try (CodeExecutor.ExecutorsBatch executors = componentSupplier.getCodeExecutor().loadOrBuildAndDefineExecutors(properties)) {
+				assertEquals(Arrays.asList("now", "sum"), new ArrayList<>(executors.getNames()));
+				assertEquals(Integer.valueOf(3), executors.execute("sum", 1, 2));
+				assertTrue(executors.execute("now") instanceof Date);
+				return executors.get("sum");
+			}
+		});
+	}
+	
+	@Test
+	public void loadOrBuildAndDefineExecutorsTestTwo() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		testNotNull(() -> {
+			try (CodeExecutor.ExecutorsBatch executors = componentSupplier.getCodeExecutor().loadOrBuildAndDefineExecutors(
+				Arrays.asList(
+					ExecuteConfig.forPropertiesFile("custom-folder/code.properties").setPropertyName("code-block-1"),
+					ExecuteConfig.forBodySourceGenerator().addCodeRow("return (T)\"Hello\";").setSimpleName("Hello")
+				)
+			)) {
+				assertEquals("Hello", executors.execute("org.burningwave.core.Hello"));
+				return executors.execute("code-block-1", LocalDateTime.now());
+			}
+		});
+	}
+	
+	@Test
+	public void loadOrBuildAndDefineExecutorsWithDuplicatedNamesTestOne() throws Exception {
+		ComponentSupplier componentSupplier = getComponentSupplier();
+		Properties properties = new Properties();
+		properties.put("hello", "\"Hello\"");
+		properties.put("hello.simple-name", "Greeting");
+		properties.put("goodbye", "\"Goodbye\"");
+		properties.put("goodbye.simple-name", "Greeting");
+		assertThrows(RuntimeException.class, () ->
+			componentSupplier.getCodeExecutor().loadOrBuildAndDefineExecutors(properties)
+		);
+		assertThrows(RuntimeException.class, () ->
+			componentSupplier.getCodeExecutor().loadOrBuildAndDefineExecutors(
+				Arrays.asList(
+					ExecuteConfig.forBodySourceGenerator().addCodeRow("return (T)\"Hello\";").setSimpleName("Greeting"),
+					ExecuteConfig.forBodySourceGenerator().addCodeRow("return (T)\"Goodbye\";").setSimpleName("Greeting")
+				)
+			)
+		);
+	}
+	
 	@Test
 	public void executeCodeOfPropertiesTest() throws Exception {
 		ComponentSupplier componentSupplier = getComponentSupplier();
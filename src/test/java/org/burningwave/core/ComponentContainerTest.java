@@ -1,8 +1,26 @@
 package org.burningwave.core;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
+import static org.burningwave.core.assembler.StaticComponentContainer.FileSystemHelper;
 import static org.burningwave.core.assembler.StaticComponentContainer.GlobalProperties;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
 
 import org.burningwave.core.assembler.ComponentContainer;
+import org.burningwave.core.bean.Complex;
+import org.burningwave.core.bean.PojoInterface;
+import org.burningwave.core.classes.ByteCodeHunter;
+import org.burningwave.core.classes.CacheableSearchConfig;
+import org.burningwave.core.classes.SearchConfig;
+import org.burningwave.core.classes.Snapshot;
+import org.burningwave.core.io.FileSystemItem;
 import org.junit.jupiter.api.Test;
 
 public class ComponentContainerTest extends BaseTest {
@@ -28,6 +46,73 @@ public class ComponentContainerTest extends BaseTest {
 		});
 	}
 	
+	@Test
+	public void storeAndLoadSnapshotTest() {
+		testNotEmpty(() -> {
+			String snapshotPath = FileSystemHelper.getOrCreateTemporaryFolder("snapshots").getAbsolutePath() + "/snapshot.bin";
+			ComponentContainer componentSupplier = ComponentContainer.create("burningwave.properties");
+			String jarAbsolutePath = FileSystemItem.ofPath(
+				componentSupplier.getPathHelper().getAbsolutePathOfResource("../../src/test/external-resources/spring-core-4.3.4.RELEASE.jar")
+			).getAbsolutePath();
+			CacheableSearchConfig searchConfig = SearchConfig.forPaths(jarAbsolutePath);
+			componentSupplier.getByteCodeHunter().loadInCache(searchConfig).find().close();
+			componentSupplier.getClassFactory().loadOrBuildAndDefineFunctionSubType(7);
+			componentSupplier.storeSnapshot(snapshotPath);
+			componentSupplier.close();
+			ComponentContainer componentSupplierFromSnapshot = ComponentContainer.create("burningwave.properties").loadSnapshot(snapshotPath);
+			try {
+				//The jar must be in the cache before any search is made
+				assertTrue(((Map<?, ?>)Fields.getDirect(componentSupplierFromSnapshot.getByteCodeHunter(), "cache")).containsKey(jarAbsolutePath));
+				componentSupplierFromSnapshot.getClassFactory().loadOrBuildAndDefineFunctionSubType(7);
+				return componentSupplierFromSnapshot.getByteCodeHunter().findBy(searchConfig).getClasses();
+			} finally {
+				componentSupplierFromSnapshot.close();
+			}
+		});
+	}
+	
+	@Test
+	public void loadSnapshotOfModifiedFolderTest() {
+		testDoesNotThrow(() -> {
+			File snapshotsFolder = FileSystemHelper.getOrCreateTemporaryFolder("snapshots");
+			String snapshotPath = snapshotsFolder.getAbsolutePath() + "/snapshot-of-folder.bin";
+			File classesFolder = new File(snapshotsFolder, "classes-" + System.currentTimeMillis());
+			File packageFolder = new File(classesFolder, Complex.class.getPackage().getName().replace(".", "/"));
+			packageFolder.mkdirs();
+			File classFile = new File(packageFolder, "Complex.class");
+			copyByteCode(Complex.class, classFile);
+			String basePath = FileSystemItem.ofPath(classesFolder.getAbsolutePath()).getAbsolutePath();
+			ComponentContainer componentSupplier = ComponentContainer.create("burningwave.properties");
+			try {
+				ByteCodeHunter byteCodeHunter = componentSupplier.getByteCodeHunter();
+				byteCodeHunter.loadInCache(SearchConfig.forPaths(basePath)).find().close();
+				componentSupplier.storeSnapshot(snapshotPath);
+				byteCodeHunter.clearCache();
+				assertEquals(1, Snapshot.load(snapshotPath).loadInCache(byteCodeHunter));
+				byteCodeHunter.clearCache();
+				//The folder is not modified but one of its class files is
+				copyByteCode(PojoInterface.class, classFile);
+				assertEquals(0, Snapshot.load(snapshotPath).loadInCache(byteCodeHunter));
+				copyByteCode(Complex.class, classFile);
+				classFile.setLastModified(classFile.lastModified() - 10000);
+				byteCodeHunter.loadInCache(SearchConfig.forPaths(basePath)).find().close();
+				componentSupplier.storeSnapshot(snapshotPath);
+				byteCodeHunter.clearCache();
+				//A class file is added to a subfolder
+				copyByteCode(PojoInterface.class, new File(packageFolder, "PojoInterface.class"));
+				assertEquals(0, Snapshot.load(snapshotPath).loadInCache(byteCodeHunter));
+			} finally {
+				componentSupplier.close();
+			}
+		});
+	}
+	
+	private void copyByteCode(Class<?> cls, File target) throws IOException {
+		try (InputStream inputStream = cls.getResourceAsStream(cls.getSimpleName() + ".class")) {
+			Files.copy(inputStream, target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+	
 	@Test
 	public void clearAll() {
 		logWarn("Total memory before clearAll {}", Runtime.getRuntime().totalMemory());
@@ -1,8 +1,14 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Constructors;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.burningwave.core.assembler.ComponentSupplier;
+import org.burningwave.core.classes.ClassCriteria;
+import org.burningwave.core.classes.Constructors.Instantiator;
 import org.burningwave.core.classes.FunctionalInterfaceFactory;
 import org.burningwave.core.classes.MemoryClassLoader;
 import org.burningwave.core.service.ExtendedService;
@@ -48,4 +54,48 @@ public class ConstructorsTest extends BaseTest {
 			Constructors.newInstanceDirectOf(MemoryClassLoader.class, null)
 		);
 	}
+	
+	@Test
+	public void findInstantiatorTestOne() {
+		testNotNull(() -> {
+			Instantiator<ClassCriteria> instantiator = Constructors.findInstantiator(ClassCriteria.class);
+			assertSame(instantiator, Constructors.findInstantiator(ClassCriteria.class));
+			ClassCriteria criteria = instantiator.newInstance();
+			assertNotSame(criteria, instantiator.newInstance());
+			return criteria;
+		});
+	}
+	
+	@Test
+	public void findInstantiatorTestTwo() {
+		testNotNull(() ->
+			Constructors.findInstantiator(MemoryClassLoader.class, ClassLoader.class).newInstance(
+				Thread.currentThread().getContextClassLoader()
+			)
+		);
+	}
+	
+	@Test
+	public void newInstanceOfDirectWithVarArgsTestOne() {
+		testNotNull(() -> {
+			WithVarArgs withVarArgs = Constructors.newInstanceDirectOf(WithVarArgs.class, "x", "y", "z");
+			assertEquals("x", withVarArgs.first);
+			assertArrayEquals(new String[] {"y", "z"}, withVarArgs.others);
+			withVarArgs = Constructors.newInstanceDirectOf(WithVarArgs.class, "x");
+			assertArrayEquals(new String[0], withVarArgs.others);
+			withVarArgs = Constructors.newInstanceDirectOf(WithVarArgs.class, "x", new String[] {"y"});
+			assertArrayEquals(new String[] {"y"}, withVarArgs.others);
+			return withVarArgs;
+		});
+	}
+	
+	public static class WithVarArgs {
+		String first;
+		String[] others;
+		
+		public WithVarArgs(String first, String... others) {
+			this.first = first;
+			this.others = others;
+		}
+	}
 }
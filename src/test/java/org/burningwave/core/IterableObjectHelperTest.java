@@ -1,6 +1,14 @@
 package org.burningwave.core;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
 import static org.burningwave.core.assembler.StaticComponentContainer.IterableObjectHelper;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Map;
 
 import org.burningwave.core.iterable.Properties;
 import org.junit.jupiter.api.Test;
@@ -40,6 +48,79 @@ public class IterableObjectHelperTest extends BaseTest {
 		});
 	}
 	
+	@Test
+	public void resolveAfterChangeTestOne() {
+		testDoesNotThrow(() -> {
+			Properties properties = new Properties();
+			properties.put("path-01", "${path-02}/classes");
+			properties.put("path-02", "${path-03}/target");
+			assertEquals("${path-03}/target/classes", properties.resolveStringValue("path-01"));
+			properties.put("path-03", "/project");
+			assertEquals("/project/target/classes", properties.resolveStringValue("path-01"));
+			properties.putIfAbsent("path-02", "/other");
+			assertEquals("/project/target/classes", properties.resolveStringValue("path-01"));
+			properties.remove("path-02");
+			properties.putIfAbsent("path-02", "/other");
+			assertEquals("/other/classes", properties.resolveStringValue("path-01"));
+			properties.clear();
+			assertEquals(null, properties.resolveStringValue("path-01"));
+		});
+	}
+	
+	@Test
+	public void resolveAfterChangeTestTwo() {
+		testDoesNotThrow(() -> {
+			Properties properties = new Properties();
+			for (int i = 0; i < 1000; i++) {
+				properties.put("path-01", "${path-02-" + i + "}/classes-" + i);
+				assertEquals("${path-02-" + i + "}/classes-" + i, properties.resolveStringValue("path-01"));
+				assertEquals("/classes-" + i, IterableObjectHelper.resolveStringValue(properties, "path-01", null, true));
+			}
+			Object resolvedValuesCache = Fields.getDirect(properties, "resolvedValuesCache");
+			assertEquals(1, ((Map<?, ?>)Fields.getDirect(resolvedValuesCache, "placeHolders")).size());
+			assertEquals(1, ((Map<?, ?>)Fields.getDirect(resolvedValuesCache, "unresolvedPlaceHolderPatterns")).size());
+		});
+	}
+	
+	@Test
+	public void resolveAfterCloneTestOne() {
+		testDoesNotThrow(() -> {
+			Properties properties = new Properties();
+			properties.put("a", "one");
+			properties.put("b", "${a}");
+			assertEquals("one", properties.resolveStringValue("b"));
+			Properties clone = (Properties)properties.clone();
+			clone.put("a", "two");
+			assertEquals("two", clone.resolveStringValue("b"));
+			assertEquals("one", properties.resolveStringValue("b"));
+			properties.put("a", "three");
+			assertEquals("three", properties.resolveStringValue("b"));
+			assertEquals("two", clone.resolveStringValue("b"));
+		});
+	}
+	
+	@Test
+	public void resolveAfterDeserializationTestOne() {
+		testDoesNotThrow(() -> {
+			Properties properties = new Properties();
+			properties.put("a", "one");
+			properties.put("b", "${a}");
+			assertEquals("one", properties.resolveStringValue("b"));
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			try (ObjectOutputStream objectOutput = new ObjectOutputStream(output)) {
+				objectOutput.writeObject(properties);
+			}
+			Properties deserializedProperties;
+			try (ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+				deserializedProperties = (Properties)objectInput.readObject();
+			}
+			assertEquals("one", deserializedProperties.resolveStringValue("b"));
+			deserializedProperties.put("a", "two");
+			assertEquals("two", deserializedProperties.resolveStringValue("b"));
+			assertEquals("one", properties.resolveStringValue("b"));
+		});
+	}
+	
 	@Test
 	public void containsTestOne() {
 		testNotNull(() -> {
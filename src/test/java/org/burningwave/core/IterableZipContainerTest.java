@@ -1,5 +1,17 @@
 package org.burningwave.core;
 
+import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.io.FileSystemItem;
 import org.burningwave.core.io.IterableZipContainer;
@@ -34,4 +46,80 @@ public class IterableZipContainerTest extends BaseTest {
 		});
 	}
 	
+	@Test
+	public void findFirstStoredEntryTestOne() {
+		testNotNull(() ->{
+			byte[] content = "stored entry content".getBytes(StandardCharsets.UTF_8);
+			byte[] nestedArchive = createStoredArchive("content.txt", content);
+			ByteBuffer archive = ByteBuffer.wrap(createStoredArchive("nested.jar", nestedArchive));
+			try (IterableZipContainer zip = IterableZipContainer.create("/memory/stored-archive.jar", archive)) {
+				IterableZipContainer.Entry nestedArchiveEntry = zip.findFirst(
+					zipEntry -> zipEntry.getName().equals("nested.jar"), zipEntry -> true
+				);
+				try (IterableZipContainer nestedZip = IterableZipContainer.create(nestedArchiveEntry)) {
+					ByteBuffer entryContent = nestedZip.findFirst(
+						zipEntry -> zipEntry.getName().equals("content.txt"), zipEntry -> true
+					).toByteBuffer();
+					return entryContent.isReadOnly() && 
+						new String(Streams.toByteArray(entryContent), StandardCharsets.UTF_8).equals("stored entry content") ?
+						entryContent : null;
+				}
+			}
+		});
+	}
+	
+	@Test
+	public void findAllInJModTestOne() {
+		testNotEmpty(() ->{
+			byte[] storedContent = "stored entry content".getBytes(StandardCharsets.UTF_8);
+			byte[] deflatedContent = String.join("", Collections.nCopies(64, "deflated entry content")).getBytes(StandardCharsets.UTF_8);
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			outputStream.write(new byte[] {0x4A, 0x4D, 0x01, 0x00});
+			try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+				zipOutputStream.putNextEntry(new ZipEntry("classes/"));
+				zipOutputStream.closeEntry();
+				zipOutputStream.putNextEntry(new ZipEntry("classes/deflated.txt"));
+				zipOutputStream.write(deflatedContent);
+				zipOutputStream.closeEntry();
+				CRC32 crc = new CRC32();
+				crc.update(storedContent);
+				ZipEntry zipEntry = new ZipEntry("classes/stored.txt");
+				zipEntry.setMethod(ZipEntry.STORED);
+				zipEntry.setSize(storedContent.length);
+				zipEntry.setCompressedSize(storedContent.length);
+				zipEntry.setCrc(crc.getValue());
+				zipOutputStream.putNextEntry(zipEntry);
+				zipOutputStream.write(storedContent);
+				zipOutputStream.closeEntry();
+			}
+			try (IterableZipContainer zip = IterableZipContainer.create("/memory/archive.jmod", ByteBuffer.wrap(outputStream.toByteArray()))) {
+				Set<IterableZipContainer.Entry> entries = zip.findAll(zipEntry -> !zipEntry.isDirectory(), zipEntry -> true);
+				for (IterableZipContainer.Entry entry : entries) {
+					byte[] expectedContent = entry.getName().endsWith("stored.txt") ? storedContent : deflatedContent;
+					if (!Arrays.equals(expectedContent, entry.toByteArray())) {
+						return null;
+					}
+				}
+				return entries.size() == 2 ? entries : null;
+			}
+		});
+	}
+	
+	private byte[] createStoredArchive(String entryName, byte[] content) throws Exception {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+			CRC32 crc = new CRC32();
+			crc.update(content);
+			ZipEntry zipEntry = new ZipEntry(entryName);
+			zipEntry.setMethod(ZipEntry.STORED);
+			zipEntry.setSize(content.length);
+			zipEntry.setCompressedSize(content.length);
+			zipEntry.setCrc(crc.getValue());
+			zipOutputStream.putNextEntry(zipEntry);
+			zipOutputStream.write(content);
+			zipOutputStream.closeEntry();
+		}
+		return outputStream.toByteArray();
+	}
+	
 }
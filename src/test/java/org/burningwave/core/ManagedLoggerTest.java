@@ -0,0 +1,80 @@
+package org.burningwave.core;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+
+public class ManagedLoggerTest extends BaseTest {
+
+	@Test
+	public void logWithSupplierOfSimpleRepositoryTestOne() {
+		testDoesNotThrow(() -> {
+			checkThatDisabledLevelDoesNotEvaluateSupplier(new SimpleManagedLoggerRepository(new Properties()));
+		});
+	}
+
+	@Test
+	public void logWithSupplierOfSLF4JRepositoryTestOne() {
+		testDoesNotThrow(() -> {
+			checkThatDisabledLevelDoesNotEvaluateSupplier(new SLF4JManagedLoggerRepository(new Properties()));
+		});
+	}
+
+	@Test
+	public void logWithSupplierOfSLF4JRepositoryTestTwo() {
+		testDoesNotThrow(() -> {
+			ManagedLogger.Repository repository = new SLF4JManagedLoggerRepository(new Properties());
+			ch.qos.logback.classic.Logger logger = (ch.qos.logback.classic.Logger)LoggerFactory.getLogger(getClass());
+			Level level = logger.getLevel();
+			//The level of the SLF4J binding disables debug while the repository still enables it
+			logger.setLevel(Level.INFO);
+			try {
+				AtomicBoolean evaluated = new AtomicBoolean();
+				assertFalse(repository.isEnabled(getClass(), LoggingLevel.DEBUG));
+				repository.logDebug(getClass(), messageSupplier(evaluated));
+				assertFalse(evaluated.get());
+				assertTrue(repository.isEnabled(getClass(), LoggingLevel.INFO));
+				repository.logInfo(getClass(), messageSupplier(evaluated));
+				assertTrue(evaluated.get());
+			} finally {
+				logger.setLevel(level);
+			}
+		});
+	}
+
+	@Test
+	public void logWithSupplierOfDisabledRepositoryTestOne() {
+		testDoesNotThrow(() -> {
+			ManagedLogger.Repository repository = new SimpleManagedLoggerRepository(new Properties());
+			repository.disableLogging();
+			AtomicBoolean evaluated = new AtomicBoolean();
+			repository.logWarn(getClass(), messageSupplier(evaluated));
+			assertFalse(evaluated.get());
+		});
+	}
+
+	private void checkThatDisabledLevelDoesNotEvaluateSupplier(ManagedLogger.Repository repository) {
+		repository.removeLoggingLevelFor(LoggingLevel.DEBUG, getClass().getName());
+		AtomicBoolean evaluated = new AtomicBoolean();
+		repository.logDebug(getClass(), messageSupplier(evaluated));
+		assertFalse(evaluated.get());
+		repository.logInfo(getClass(), messageSupplier(evaluated));
+		assertTrue(evaluated.get());
+	}
+
+	private Supplier<String> messageSupplier(AtomicBoolean evaluated) {
+		return () -> {
+			evaluated.set(true);
+			return "message evaluated";
+		};
+	}
+
+}
@@ -1,6 +1,7 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Members;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.burningwave.core.classes.MethodCriteria;
@@ -87,6 +88,32 @@ public class MembersTest extends BaseTest {
 		);
 	}
 	
+	@Test
+	public void findAllByExactNameTestOne() {
+		assertEquals(
+			Members.findAll(
+				MethodCriteria.forName("loadClass"::equals), PathScannerClassLoader.class
+			),
+			Members.findAll(
+				MethodCriteria.create().name("loadClass").or(
+					MethodCriteria.create().name("loadClass").and().parameterTypes(params -> params.length == 1)
+				), PathScannerClassLoader.class
+			)
+		);
+	}
+	
+	@Test
+	public void findAllByExactNameTestTwo() {
+		assertEquals(
+			Members.findAll(
+				MethodCriteria.forName(name -> name.equals("loadClass") || name.equals("findClass")), PathScannerClassLoader.class
+			),
+			Members.findAll(
+				MethodCriteria.create().name("loadClass").or().name("findClass"), PathScannerClassLoader.class
+			)
+		);
+	}
+	
 	@Test
 	public void findFirstTestOne() {
 		testNotNull(() ->
@@ -1,6 +1,11 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.Methods;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
 
 import org.burningwave.core.assembler.ComponentSupplier;
 import org.burningwave.core.service.Service;
@@ -20,6 +25,22 @@ public class MethodsTest extends BaseTest {
 		);
 	}
 	
+	@Test
+	public void invokeByInvokerTestOne() {
+		testNotNull(
+			() -> Methods.findInvoker(Integer.class, "valueOf", int.class).invoke(null, 1)
+		);
+	}
+	
+	@Test
+	public void invokeVoidWithVarArgsByInvokerTestOne() throws Throwable {
+		testDoesNotThrow(() -> {
+			Methods.findInvoker(Service.class, "apply", String.class, String.class, String[].class).invoke(
+				new Service(), "Hello", "World!", new String[]{"How are you?"}
+			);
+		});
+	}
+	
 	@Test
 	public void findAllAndMakeThemAccessibleTestOne() {
 		testNotEmpty(
@@ -30,6 +51,31 @@ public class MethodsTest extends BaseTest {
 		true);
 	}
 	
+	@Test
+	public void findAllByExactNameAndMakeThemAccessibleTestOne() {
+		testNotEmpty(
+			() -> {
+				Collection<Method> methods = Methods.findAllByExactNameAndMakeThemAccessible(System.out.getClass(), "println", String.class);
+				return methods == Methods.findAllByExactNameAndMakeThemAccessible(System.out.getClass(), "println", String.class) ?
+					methods : null;
+			}
+		);
+	}
+	
+	@Test
+	public void classForResourcesMissTestOne() {
+		Cache.ClassForResources<String> classForResources = new Cache.ClassForResources<>();
+		assertNull(classForResources.get(Service.class, "key"));
+		assertNull(classForResources.remove(Service.class, "key"));
+		assertFalse(classForResources.classesWithResources.contains(Service.class));
+		testNotNull(
+			() -> {
+				classForResources.getOrUploadIfAbsent(Service.class, "key", () -> "value");
+				return classForResources.get(Service.class, "key");
+			}
+		);
+	}
+	
 	@Test
 	public void invokeVoidTestOne() {
 		testDoesNotThrow(
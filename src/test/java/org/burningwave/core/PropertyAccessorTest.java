@@ -1,8 +1,13 @@
 package org.burningwave.core;
 
 import static org.burningwave.core.assembler.StaticComponentContainer.ByFieldOrByMethodPropertyAccessor;
+import static org.burningwave.core.assembler.StaticComponentContainer.ByMethodOrByFieldPropertyAccessor;
+import static org.burningwave.core.assembler.StaticComponentContainer.Fields;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
 
 import org.burningwave.core.bean.Complex;
 import org.junit.jupiter.api.Test;
@@ -17,6 +22,56 @@ public class PropertyAccessorTest extends BaseTest {
 	}
 	
 	
+	@Test
+	public void getTestTwo() {
+		for (int i = 0; i < 3; i++) {
+			Complex complex = new Complex();
+			assertEquals(
+				(Object)ByMethodOrByFieldPropertyAccessor.get(complex, "data.items[1][2].name"),
+				(Object)ByFieldOrByMethodPropertyAccessor.get(complex, "data.items[1][2].name")
+			);
+			String newName = "Peter" + i;
+			ByMethodOrByFieldPropertyAccessor.set(complex, "data.items[1][2].name", newName);
+			assertEquals(newName, ByFieldOrByMethodPropertyAccessor.get(complex, "data.items[1][2].name"));
+		}
+	}
+	
+	@Test
+	public void compiledPathsLimitTestOne() {
+		Complex complex = new Complex();
+		for (int i = 0; i < 5000; i++) {
+			try {
+				ByFieldOrByMethodPropertyAccessor.get(complex, "data.dynamicProperty" + i);
+			} catch (Throwable exc) {
+				//The property doesn't exist: only the compilation of the path is relevant
+			}
+		}
+		Map<?, ?> compiledPaths = Fields.getDirect(ByFieldOrByMethodPropertyAccessor, "compiledPaths");
+		assertTrue(compiledPaths.size() <= 1024);
+		assertNotNull(ByFieldOrByMethodPropertyAccessor.get(complex, "data.items[1][1].name"));
+	}
+	
+	@Test
+	public void compiledPathsLimitTestTwo() {
+		Complex complex = new Complex();
+		String propertyPath = "data.items[1][1].name";
+		for (int i = 0; i < 5000; i++) {
+			assertNotNull(ByFieldOrByMethodPropertyAccessor.get(complex, propertyPath));
+			try {
+				ByFieldOrByMethodPropertyAccessor.get(complex, "data.dynamicProperty" + i);
+			} catch (Throwable exc) {
+				//The property doesn't exist: only the caching of the path and of the readers is relevant
+			}
+		}
+		//The path used in every iteration is never the least recently used one, so it must not be evicted
+		Map<?, ?> compiledPaths = Fields.getDirect(ByFieldOrByMethodPropertyAccessor, "compiledPaths");
+		assertTrue(compiledPaths.containsKey(propertyPath));
+		ClassValue<?> propertyReaders = Fields.getDirect(ByFieldOrByMethodPropertyAccessor, "propertyReaders");
+		Map<?, ?> readersForClass = (Map<?, ?>)propertyReaders.get(Complex.Data.class);
+		assertTrue(readersForClass.size() <= 256);
+		assertTrue(readersForClass.containsKey("items"));
+	}
+	
 	@Test
 	public void setTestOne() {
 		Complex complex = new Complex();
@@ -0,0 +1,85 @@
+package org.burningwave.core;
+
+import static org.burningwave.core.assembler.StaticComponentContainer.Streams;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.burningwave.core.io.ByteBufferOutputStream;
+import org.junit.jupiter.api.Test;
+
+public class StreamsTest extends BaseTest {
+	private static final int CONTENT_SIZE = 8 * 1024 * 1024;
+	//Allows for the buffers allocated meanwhile by other components
+	private static final long TOLERANCE = 1024 * 1024;
+
+	@Test
+	public void toByteArrayTestOne() {
+		testDoesNotThrow(() -> {
+			byte[] expectedContent = createContent();
+			long directMemoryUsedBefore = Streams.getDirectMemoryUsed();
+			//A small size hint forces many expansions of the buffer, each one releasing the previous buffer
+			try (InputStream inputStream = new ByteArrayInputStream(expectedContent)) {
+				assertArrayEquals(expectedContent, Streams.toByteArray(inputStream, 64));
+			}
+			long directMemoryUsedAfter = Streams.getDirectMemoryUsed();
+			logDebug("Direct memory used before: {} bytes, after: {} bytes", directMemoryUsedBefore, directMemoryUsedAfter);
+			assertTrue(directMemoryUsedAfter - directMemoryUsedBefore < TOLERANCE);
+		});
+	}
+
+	@Test
+	public void writeTestOne() {
+		testDoesNotThrow(() -> {
+			byte[] content = createContent();
+			long directMemoryUsedBefore = Streams.getDirectMemoryUsed();
+			try (ByteBufferOutputStream outputStream = new ByteBufferOutputStream(64)) {
+				for (int offset = 0; offset < content.length; offset += 4096) {
+					outputStream.write(content, offset, 4096);
+				}
+				//Only the last buffer is still allocated: the previous ones would take almost as much again
+				assertTrue(Streams.getDirectMemoryUsed() - directMemoryUsedBefore < CONTENT_SIZE + TOLERANCE);
+			}
+			assertTrue(Streams.getDirectMemoryUsed() - directMemoryUsedBefore < TOLERANCE);
+		});
+	}
+
+	@Test
+	public void closeTestOne() {
+		testDoesNotThrow(() -> {
+			long directMemoryUsedBefore = Streams.getDirectMemoryUsed();
+			ByteBufferOutputStream outputStream = new ByteBufferOutputStream(CONTENT_SIZE);
+			outputStream.write(createContent());
+			assertTrue(Streams.getDirectMemoryUsed() - directMemoryUsedBefore >= CONTENT_SIZE);
+			outputStream.close();
+			assertTrue(Streams.getDirectMemoryUsed() - directMemoryUsedBefore < TOLERANCE);
+		});
+	}
+
+	@Test
+	public void closeTestTwo() {
+		testDoesNotThrow(() -> {
+			byte[] expectedContent = createContent();
+			long directMemoryUsedBefore = Streams.getDirectMemoryUsed();
+			ByteBuffer content;
+			try (ByteBufferOutputStream outputStream = new ByteBufferOutputStream(CONTENT_SIZE)) {
+				outputStream.write(expectedContent);
+				content = outputStream.toByteBuffer();
+			}
+			//The buffer has been handed out, so it must not be released on close
+			assertTrue(Streams.getDirectMemoryUsed() - directMemoryUsedBefore >= CONTENT_SIZE);
+			assertArrayEquals(expectedContent, Streams.toByteArray(content));
+		});
+	}
+
+	private byte[] createContent() {
+		byte[] content = new byte[CONTENT_SIZE];
+		new Random(0).nextBytes(content);
+		return content;
+	}
+
+}
@@ -1,5 +1,7 @@
 package org.burningwave.core;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
@@ -203,4 +205,19 @@ public class UnitSourceGeneratorTest extends BaseTest {
 		unitSG.storeToClassPath(System.getProperty("user.home") + "/Desktop/bw-tests");
         System.out.println("\nGenerated code:\n" + unitSG.make());
 	}
+	
+	@Test
+	public void generateUnitWithNestedInnerClassesTest() throws Throwable {
+		ClassSourceGenerator cls = ClassSourceGenerator.create(TypeDeclarationSourceGenerator.create("Generated3"))
+			.addModifier(Modifier.PUBLIC | Modifier.STATIC)
+			.addField(VariableSourceGenerator.create(TypeDeclarationSourceGenerator.create(Integer.class), "index").addModifier(Modifier.PRIVATE));
+		for (int i = 2; i >= 0; i--) {
+			cls = ClassSourceGenerator.create(TypeDeclarationSourceGenerator.create("Generated" + i))
+				.addModifier(Modifier.PUBLIC | (i > 0 ? Modifier.STATIC : 0)).addInnerClass(cls);
+		}
+		String source = UnitSourceGenerator.create("code.generator.try").addClass(cls).make();
+		logDebug(source);
+		assertTrue(source.contains("\n\t\t\tpublic static class Generated3 {\n\n\t\t\t\tprivate Integer index;"));
+		assertTrue(source.endsWith("\n\n\t\t\t}\n\n\t\t}\n\n\t}\n\n}"));
+	}
 }